@@ -2,11 +2,13 @@ package com.jobtracking.admin.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.admin.dto.AdminCompanyResponse;
 import com.jobtracking.audit.service.AuditLogService;
 import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
 import com.jobtracking.organization.repository.OrganizationRepository;
 import com.jobtracking.common.utils.ValidationUtil;
 
@@ -22,6 +24,7 @@ public class AdminCompanyService {
 
     private final OrganizationRepository organizationRepository;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all companies for admin view
@@ -56,6 +59,9 @@ public class AdminCompanyService {
             auditLogService.log("COMPANY", companyId, action, adminId,
                 "Company '" + company.getName() + "' verification changed from " + 
                 oldStatus + " to " + verified);
+            eventPublisher.publishEvent(new OrganizationChangedEvent(companyId, verified
+                    ? OrganizationChangedEvent.ChangeType.VERIFIED
+                    : OrganizationChangedEvent.ChangeType.UNVERIFIED));
         }, () -> {
             throw new EntityNotFoundException("Company", companyId);
         });
@@ -6,15 +6,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.admin.dto.AdminJobResponse;
 import com.jobtracking.audit.service.AuditLogService;
 import com.jobtracking.common.exception.AdminException;
 import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.job.event.JobChangedEvent;
 import com.jobtracking.job.repository.JobRepository;
-import com.jobtracking.organization.entity.Organization;
-import com.jobtracking.organization.repository.OrganizationRepository;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.organization.service.OrganizationDirectory;
 import com.jobtracking.common.utils.ValidationUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -28,17 +30,20 @@ import lombok.RequiredArgsConstructor;
 public class AdminJobService {
 
     private final JobRepository jobRepository;
-    private final OrganizationRepository organizationRepository;
+    private final OrganizationDirectory organizationDirectory;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all jobs for admin view
      */
     public List<AdminJobResponse> getAllJobs() {
-        Map<Long, String> companyNames = getCompanyNamesMap();
-        
-        return jobRepository.findAll().stream()
+        List<Job> jobs = jobRepository.findAll().stream()
                 .filter(job -> job.getDeletedAt() == null) // Only active jobs
+                .toList();
+        Map<Long, String> companyNames = getCompanyNamesMap(jobs);
+        
+        return jobs.stream()
                 .map(job -> new AdminJobResponse(
                         job.getId(),
                         job.getTitle(),
@@ -65,6 +70,7 @@ public class AdminJobService {
             
             auditLogService.log("JOB", jobId, "ADMIN_DELETE", adminId,
                 "Job '" + job.getTitle() + "' deleted by admin");
+            eventPublisher.publishEvent(JobChangedEvent.of(jobId, JobChangedEvent.ChangeType.DELETED));
         }, () -> {
             throw new EntityNotFoundException("Job", jobId);
         });
@@ -89,6 +95,9 @@ public class AdminJobService {
             String action = newStatus ? "ACTIVATED" : "DEACTIVATED";
             auditLogService.log("JOB", jobId, action, adminId,
                 "Job '" + job.getTitle() + "' " + action.toLowerCase() + " by admin");
+            eventPublisher.publishEvent(JobChangedEvent.of(jobId, newStatus
+                    ? JobChangedEvent.ChangeType.ACTIVATED
+                    : JobChangedEvent.ChangeType.DEACTIVATED));
         }, () -> {
             throw new EntityNotFoundException("Job", jobId);
         });
@@ -111,17 +120,14 @@ public class AdminJobService {
     /**
      * Get company names map for job display
      */
-    private Map<Long, String> getCompanyNamesMap() {
+    private Map<Long, String> getCompanyNamesMap(List<Job> jobs) {
         try {
-            return organizationRepository.findAll().stream()
-                    .collect(Collectors.toMap(
-                            Organization::getId,
-                            Organization::getName,
-                            (existing, replacement) -> existing // Handle duplicate keys
-                    ));
+            return organizationDirectory.getNames(jobs.stream()
+                    .map(job -> job.getCompany() != null ? job.getCompany().getId() : null)
+                    .collect(Collectors.toSet()));
         } catch (Exception e) {
             // Return empty map if companies can't be loaded
             return new HashMap<>();
         }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.jobtracking.admin.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.admin.dto.AdminUserResponse;
@@ -9,6 +10,7 @@ import com.jobtracking.audit.service.AuditLogService;
 import com.jobtracking.auth.repository.UserRepository;
 import com.jobtracking.common.exception.EntityNotFoundException;
 import com.jobtracking.common.utils.ValidationUtil;
+import com.jobtracking.profile.event.JobSeekerProfileChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +24,7 @@ public class AdminUserService {
 
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all users for admin view
@@ -53,6 +56,8 @@ public class AdminUserService {
             String action = active ? "ACTIVATED" : "DEACTIVATED";
             auditLogService.log("USER", userId, action, adminId, 
                 "User status changed to " + (active ? "ACTIVE" : "DISABLED"));
+            // Disabled job seekers must drop out of candidate search
+            eventPublisher.publishEvent(new JobSeekerProfileChangedEvent(userId));
         }, () -> {
             throw new EntityNotFoundException("User", userId);
         });
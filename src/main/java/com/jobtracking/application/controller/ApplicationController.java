@@ -2,25 +2,39 @@ package com.jobtracking.application.controller;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import com.jobtracking.application.dto.ApplicationPipelineResponse;
 import com.jobtracking.application.dto.ApplicationResponse;
+import com.jobtracking.application.dto.ApplicationSubmissionResponse;
+import com.jobtracking.application.dto.BulkStatusUpdateRequest;
+import com.jobtracking.application.dto.BulkStatusUpdateResult;
 import com.jobtracking.application.dto.CandidateApplicationResponse;
+import com.jobtracking.application.dto.RankedApplicationResponse;
 import com.jobtracking.application.service.ApplicationService;
+import com.jobtracking.application.service.ApplicationSubmissionQueue;
 import com.jobtracking.common.controller.BaseController;
+import com.jobtracking.common.exception.BusinessException;
 import com.jobtracking.common.response.ApiResponse;
 import com.jobtracking.common.utils.AuthorizationUtil;
 import com.jobtracking.common.utils.ResponseUtil;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import com.jobtracking.application.dto.UpdateStatusRequest;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.web.bind.annotation.PostMapping;
 import com.jobtracking.application.dto.ApplyJobRequest;
 
@@ -36,14 +50,26 @@ import jakarta.validation.Valid;
 public class ApplicationController extends BaseController {
     private final ApplicationService applicationService;
     private final AuthorizationUtil authorizationUtil;
+    private final ApplicationSubmissionQueue submissionQueue;
+
+    private static final int MAX_CHECK_JOB_IDS = 100;
 
     @PostMapping("/{jobId}")
     public ResponseEntity<ApiResponse<String>> createApplication(@PathVariable Long jobId,
             @RequestBody ApplyJobRequest applyJobRequest, Authentication authentication) {
         try {
             Long userId = Long.valueOf(authentication.getName());
+            if (submissionQueue.isEnabled()) {
+                Optional<String> submissionId = submissionQueue.trySubmit(jobId, userId, applyJobRequest);
+                if (submissionId.isPresent()) {
+                    // Accepted - poll GET /applications/submissions/{id} for the outcome
+                    return ResponseUtil.success(submissionId.get(), "Application accepted", HttpStatus.ACCEPTED);
+                }
+            }
             applicationService.createApplication(jobId, userId, applyJobRequest);
             return ResponseUtil.success("Job applied successfully");
+        } catch (BusinessException ex) {
+            throw ex; // Duplicate application - handled by GlobalExceptionHandler
         } catch (IllegalStateException ex) {
             return ResponseUtil.conflict(ex.getMessage());
         } catch (IllegalArgumentException ex) {
@@ -53,6 +79,13 @@ public class ApplicationController extends BaseController {
         }
     }
 
+    @GetMapping("/submissions/{submissionId}")
+    public ResponseEntity<ApiResponse<ApplicationSubmissionResponse>> getSubmission(@PathVariable String submissionId,
+            Authentication authentication) {
+        Long userId = Long.valueOf(authentication.getName());
+        return ResponseUtil.success(submissionQueue.getSubmission(submissionId, userId));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<List<CandidateApplicationResponse>>> getMyApplications(Authentication authentication) {
         try {
@@ -86,6 +119,63 @@ public class ApplicationController extends BaseController {
         }
     }
 
+    /**
+     * Applicants for a job ranked by how well they match its required skills and experience window
+     */
+    @GetMapping(value = "/job/{jobId}", params = "sort=score")
+    public ResponseEntity<ApiResponse<Page<RankedApplicationResponse>>> getRankedApplicationsByJobId(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+
+        if (!authorizationUtil.isRecruiterAuthorizedForJob(recruiterId, jobId)) {
+            return ResponseUtil.forbidden("You can only view applications for jobs from your verified organization");
+        }
+
+        return ResponseUtil.success(applicationService.getRankedApplications(jobId, page, size));
+    }
+
+    /**
+     * Applicant pipeline for a job - keyset pages (newest first) filtered by status, plus counts for every status
+     */
+    @GetMapping("/job/{jobId}/pipeline")
+    public ResponseEntity<ApiResponse<ApplicationPipelineResponse>> getApplicationPipeline(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+
+        if (!authorizationUtil.isRecruiterAuthorizedForJob(recruiterId, jobId)) {
+            return ResponseUtil.forbidden("You can only view applications for jobs from your verified organization");
+        }
+
+        return ResponseUtil.success(applicationService.getApplicationPipeline(jobId, status, cursor, size));
+    }
+
+    /**
+     * Move many applications between statuses at once - authorized per job, reported per application ID
+     */
+    @PatchMapping("/manage/bulk")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResult>> updateApplicationStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+
+        BulkStatusUpdateResult result = applicationService.updateApplicationStatuses(recruiterId, request);
+        return ResponseUtil.success(result, "Updated " + result.updated() + " of "
+                + result.outcomes().size() + " applications");
+    }
+
     @PatchMapping("/manage/{id}")
     public ResponseEntity<ApiResponse<ApplicationResponse>> updateApplication(@PathVariable Long id,
             @Valid @RequestBody UpdateStatusRequest updateStatusRequest) {
@@ -103,6 +193,8 @@ public class ApplicationController extends BaseController {
             ApplicationResponse response = applicationService.updateApplication(id, updateStatusRequest);
             return ResponseUtil.success(response, "Application status updated successfully");
 
+        } catch (BusinessException ex) {
+            throw ex; // Not found, invalid transition or concurrent update - handled by GlobalExceptionHandler
         } catch (RuntimeException ex) {
             return ResponseUtil.notFound("Application not found with ID: " + id);
         } catch (Exception ex) {
@@ -122,4 +214,32 @@ public class ApplicationController extends BaseController {
                     .body("Unable to check application status");
         }
     }
+
+    /**
+     * Which of the given jobs the caller has applied to - one call per listing page instead of one per job card
+     */
+    @GetMapping("/check")
+    public ResponseEntity<?> checkApplicationsExist(@RequestParam List<Long> jobIds, Authentication authentication) {
+        if (jobIds.size() > MAX_CHECK_JOB_IDS) {
+            return ResponseUtil.error("At most " + MAX_CHECK_JOB_IDS + " job IDs can be checked at once");
+        }
+        try {
+            Long userId = Long.valueOf(authentication.getName());
+            Set<Long> applied = applicationService.getAppliedJobIds(userId, jobIds);
+            Map<Long, Boolean> hasApplied = new LinkedHashMap<>();
+            jobIds.forEach(jobId -> hasApplied.put(jobId, applied.contains(jobId)));
+            return ResponseEntity.ok(Map.of("hasApplied", hasApplied));
+        } catch (Exception ex) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Unable to check application status");
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<String>> withdrawApplication(@PathVariable Long id, Authentication authentication) {
+        Long userId = Long.valueOf(authentication.getName());
+        applicationService.withdrawApplication(id, userId);
+        return ResponseUtil.success("Application withdrawn successfully");
+    }
 }
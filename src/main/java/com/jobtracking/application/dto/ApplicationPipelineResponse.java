@@ -0,0 +1,15 @@
+package com.jobtracking.application.dto;
+
+import java.util.Map;
+
+import com.jobtracking.common.dto.PageResponse;
+
+/**
+ * One page of a job's applicant pipeline plus the applicant count of every status column
+ * Counts ignore the status filter so all columns can be rendered from one response.
+ */
+public record ApplicationPipelineResponse(
+        PageResponse<ApplicationResponse> applications,
+        Map<String, Long> statusCounts,
+        long total) {
+}
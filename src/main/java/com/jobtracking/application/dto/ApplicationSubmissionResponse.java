@@ -0,0 +1,18 @@
+package com.jobtracking.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of an application accepted by the write-behind submission queue
+ * {@code applicationId} is set once the application has been written.
+ */
+public record ApplicationSubmissionResponse(String submissionId, Long jobId, State state, Long applicationId,
+                                            String message, LocalDateTime submittedAt) {
+
+    public enum State {
+        QUEUED,
+        PERSISTED,
+        DUPLICATE,
+        FAILED
+    }
+}
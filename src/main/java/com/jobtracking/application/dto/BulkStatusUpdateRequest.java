@@ -0,0 +1,28 @@
+package com.jobtracking.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Move many applications from one status to another - only those still in {@code fromStatus} change
+ */
+public record BulkStatusUpdateRequest(
+    @NotEmpty(message = "Application IDs are required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    List<Long> applicationIds,
+
+    @NotBlank(message = "Current status is required")
+    @Pattern(regexp = "APPLIED|UNDER_REVIEW|INTERVIEWED|SHORTLISTED|REJECTED|HIRED|PENDING",
+             message = "Status must be one of: APPLIED, UNDER_REVIEW, INTERVIEWED, SHORTLISTED, REJECTED, HIRED, PENDING")
+    String fromStatus,
+
+    @NotBlank(message = "New status is required")
+    @Pattern(regexp = "APPLIED|UNDER_REVIEW|INTERVIEWED|SHORTLISTED|REJECTED|HIRED|PENDING",
+             message = "Status must be one of: APPLIED, UNDER_REVIEW, INTERVIEWED, SHORTLISTED, REJECTED, HIRED, PENDING")
+    String toStatus
+) {
+}
@@ -0,0 +1,22 @@
+package com.jobtracking.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change with one entry per requested application ID
+ */
+public record BulkStatusUpdateResult(int updated, List<Outcome> outcomes) {
+
+    public enum Result {
+        UPDATED,
+        NOT_FOUND,
+        FORBIDDEN,
+        STATUS_MISMATCH
+    }
+
+    /**
+     * {@code currentStatus} is the status the application has after the operation (null if not found)
+     */
+    public record Outcome(Long id, Result result, String currentStatus) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobtracking.application.dto;
+
+/**
+ * An application with its match score against the job's required skills and experience window
+ */
+public record RankedApplicationResponse(
+        ApplicationResponse application,
+        double score,
+        int matchedSkills,
+        int requiredSkills) {
+}
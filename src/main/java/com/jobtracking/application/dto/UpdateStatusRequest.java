@@ -3,10 +3,18 @@ package com.jobtracking.application.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+/**
+ * New status for an application - when {@code expectedStatus} is given the change only applies
+ * if the application is still in that status
+ */
 public record UpdateStatusRequest(
     @NotBlank(message = "Status is required")
     @Pattern(regexp = "APPLIED|UNDER_REVIEW|INTERVIEWED|SHORTLISTED|REJECTED|HIRED|PENDING", 
              message = "Status must be one of: APPLIED, UNDER_REVIEW, INTERVIEWED, SHORTLISTED, REJECTED, HIRED, PENDING")
-    String status
+    String status,
+
+    @Pattern(regexp = "APPLIED|UNDER_REVIEW|INTERVIEWED|SHORTLISTED|REJECTED|HIRED|PENDING",
+             message = "Expected status must be one of: APPLIED, UNDER_REVIEW, INTERVIEWED, SHORTLISTED, REJECTED, HIRED, PENDING")
+    String expectedStatus
 ) {
-}
\ No newline at end of file
+}
@@ -12,7 +12,13 @@ import com.jobtracking.job.entity.Job;
 import com.jobtracking.common.entity.SoftDeleteEntity;
 
 @Entity
-@Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = { "job_id", "seeker_id" }))
+@Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = { "job_id", "seeker_id" }),
+        indexes = {
+            // Per-status counts and status-filtered pipeline pages for one job
+            @Index(name = "idx_applications_job_status", columnList = "job_id, status, deleted_at, applied_at"),
+            // Unfiltered pipeline pages for one job in applied order
+            @Index(name = "idx_applications_job_applied", columnList = "job_id, deleted_at, applied_at")
+        })
 @Getter
 @Setter
 public class Application extends SoftDeleteEntity {
@@ -36,8 +42,14 @@ public class Application extends SoftDeleteEntity {
     @Column(name = "completion_datetime")
     private LocalDateTime completionDatetime;
 
-    @Column(columnDefinition = "json")
-    private String extension;
+    // Portfolio, LinkedIn, GitHub and notes (formerly the extension JSON, migrated by ApplicationLinksMigration)
+    @Embedded
+    private ApplicationLinks links;
+
+    // Optimistic locking - concurrent writers fail instead of silently overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 
     /* ===== Relations ===== */
     @ManyToOne
@@ -7,5 +7,25 @@ public enum ApplicationStatus {
 	SHORTLISTED, // Keep for backward compatibility with existing data
 	REJECTED,
 	HIRED,
-	PENDING
+	PENDING;
+
+	/**
+	 * Whether the hiring workflow allows moving from this status to {@code next}
+	 * HIRED is final and REJECTED can only be reopened for review.
+	 */
+	public boolean canTransitionTo(ApplicationStatus next) {
+		if (next == null || next == this) {
+			return false;
+		}
+		return switch (this) {
+			case APPLIED -> next == UNDER_REVIEW || next == SHORTLISTED || next == INTERVIEWED
+					|| next == REJECTED || next == PENDING;
+			case PENDING -> next == APPLIED || next == UNDER_REVIEW || next == SHORTLISTED || next == REJECTED;
+			case UNDER_REVIEW -> next == SHORTLISTED || next == INTERVIEWED || next == REJECTED || next == PENDING;
+			case SHORTLISTED -> next == UNDER_REVIEW || next == INTERVIEWED || next == REJECTED || next == HIRED;
+			case INTERVIEWED -> next == SHORTLISTED || next == REJECTED || next == HIRED;
+			case REJECTED -> next == UNDER_REVIEW;
+			case HIRED -> false;
+		};
+	}
 }
@@ -0,0 +1,17 @@
+package com.jobtracking.application.event;
+
+import com.jobtracking.application.enums.ApplicationStatus;
+
+/**
+ * Published after an application is written so analytics and in-memory views can catch up
+ * Listeners receive it once the surrounding transaction has committed
+ */
+public record ApplicationChangedEvent(Long applicationId, Long jobId, Long userId, ChangeType type,
+                                      ApplicationStatus status) {
+
+    public enum ChangeType {
+        SUBMITTED,
+        STATUS_CHANGED,
+        WITHDRAWN
+    }
+}
@@ -2,6 +2,8 @@ package com.jobtracking.application.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,7 +12,10 @@ import com.jobtracking.application.entity.Application;
 import com.jobtracking.application.enums.ApplicationStatus;
 import com.jobtracking.common.repository.SoftDeleteRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends SoftDeleteRepository<Application> {
@@ -29,12 +34,99 @@ public interface ApplicationRepository extends SoftDeleteRepository<Application>
     @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.deletedAt IS NULL ORDER BY a.appliedAt DESC")
     List<Application> findByJobId(@Param("jobId") Long jobId);
     
+    // Applications for a job with applicants loaded in the same query (for ranking)
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.deletedAt IS NULL ORDER BY a.appliedAt DESC")
+    List<Application> findByJobIdWithUser(@Param("jobId") Long jobId);
+    
+    // Applicant pipeline: first page for a job, newest first with id as tie breaker
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.deletedAt IS NULL " +
+           "ORDER BY a.appliedAt DESC, a.id DESC")
+    List<Application> findPipelineFirstPage(@Param("jobId") Long jobId, Pageable pageable);
+    
+    // Applicant pipeline: next page strictly after the cursor position (appliedAt, id)
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.deletedAt IS NULL " +
+           "AND (a.appliedAt < :appliedAt OR (a.appliedAt = :appliedAt AND a.id < :id)) " +
+           "ORDER BY a.appliedAt DESC, a.id DESC")
+    List<Application> findPipelinePageAfter(@Param("jobId") Long jobId,
+                                            @Param("appliedAt") LocalDateTime appliedAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+    
+    // Applicant pipeline filtered by status: first page
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.status IN :statuses AND a.deletedAt IS NULL " +
+           "ORDER BY a.appliedAt DESC, a.id DESC")
+    List<Application> findPipelineFirstPageByStatus(@Param("jobId") Long jobId,
+                                                    @Param("statuses") Collection<ApplicationStatus> statuses,
+                                                    Pageable pageable);
+    
+    // Applicant pipeline filtered by status: next page strictly after the cursor position
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.status IN :statuses AND a.deletedAt IS NULL " +
+           "AND (a.appliedAt < :appliedAt OR (a.appliedAt = :appliedAt AND a.id < :id)) " +
+           "ORDER BY a.appliedAt DESC, a.id DESC")
+    List<Application> findPipelinePageAfterByStatus(@Param("jobId") Long jobId,
+                                                    @Param("statuses") Collection<ApplicationStatus> statuses,
+                                                    @Param("appliedAt") LocalDateTime appliedAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+    
+    // Applicant count per status for a job - one grouped pass over idx_applications_job_status
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.job.id = :jobId AND a.deletedAt IS NULL GROUP BY a.status")
+    List<Object[]> countByStatusForJob(@Param("jobId") Long jobId);
+    
     @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND a.deletedAt IS NULL ORDER BY a.appliedAt DESC")
     List<Application> findByUserId(@Param("userId") Long userId);
     
     @Query("SELECT COUNT(a) > 0 FROM Application a WHERE a.job.id = :jobId AND a.user.id = :userId AND a.deletedAt IS NULL")
     boolean existsByJobIdAndUserId(@Param("jobId") Long jobId, @Param("userId") Long userId);
     
+    // Every live (seeker_id, job_id) pair - seeds the applied-jobs Bloom filter
+    @Query(value = "SELECT seeker_id, job_id FROM applications WHERE deleted_at IS NULL", nativeQuery = true)
+    List<Object[]> findAllAppliedPairs();
+    
+    // Job IDs one seeker has applied to
+    @Query("SELECT a.job.id FROM Application a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
+    List<Long> findAppliedJobIdsByUserId(@Param("userId") Long userId);
+    
+    // Lock the given applications and read what a bulk status change needs: id, job_id, seeker_id, status
+    @Query(value = "SELECT id, job_id, seeker_id, status FROM applications WHERE id IN (:ids) AND deleted_at IS NULL "
+            + "FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockStatusByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Withdrawn application of the user for the job - it still holds the (job_id, seeker_id) unique key
+    @Query("SELECT a.id FROM Application a WHERE a.job.id = :jobId AND a.user.id = :userId AND a.deletedAt IS NOT NULL")
+    Optional<Long> findWithdrawnId(@Param("jobId") Long jobId, @Param("userId") Long userId);
+    
+    // Reopen a withdrawn application as a fresh submission, keeping its row and ID
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Application a SET a.deletedAt = NULL, a.status = :status, a.resumePath = :resumePath, " +
+           "a.coverLetter = :coverLetter, a.links.portfolioUrl = :portfolioUrl, a.links.linkedinUrl = :linkedinUrl, " +
+           "a.links.githubUrl = :githubUrl, a.links.additionalNotes = :additionalNotes, a.recruiterNotes = NULL, " +
+           "a.completionDatetime = NULL, a.appliedAt = :now, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.deletedAt IS NOT NULL")
+    int reopenWithdrawn(@Param("id") Long id,
+                        @Param("status") ApplicationStatus status,
+                        @Param("resumePath") String resumePath,
+                        @Param("coverLetter") String coverLetter,
+                        @Param("portfolioUrl") String portfolioUrl,
+                        @Param("linkedinUrl") String linkedinUrl,
+                        @Param("githubUrl") String githubUrl,
+                        @Param("additionalNotes") String additionalNotes,
+                        @Param("now") LocalDateTime now);
+    
+    // Set-based status change - rows no longer in the expected status are left alone
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :toStatus, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.id IN :ids AND a.status = :fromStatus AND a.deletedAt IS NULL")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("fromStatus") ApplicationStatus fromStatus,
+                           @Param("toStatus") ApplicationStatus toStatus,
+                           @Param("now") LocalDateTime now);
+    
     // Dashboard stats methods
     @Query("SELECT COUNT(a) FROM Application a WHERE a.user.id = :jobSeekerId AND a.deletedAt IS NULL")
     long countByUserId(@Param("jobSeekerId") Long jobSeekerId);
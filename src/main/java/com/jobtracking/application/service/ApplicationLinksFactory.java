@@ -0,0 +1,43 @@
+package com.jobtracking.application.service;
+
+import com.jobtracking.application.dto.ApplyJobRequest;
+import com.jobtracking.application.entity.ApplicationLinks;
+import com.jobtracking.common.exception.ValidationException;
+
+/**
+ * Builds the optional links of an application from an apply request
+ * Shared by the synchronous apply path and the write-behind submission queue.
+ */
+final class ApplicationLinksFactory {
+
+    private static final int MAX_URL_LENGTH = 500;
+
+    private ApplicationLinksFactory() {
+    }
+
+    /**
+     * Trimmed links of the request (blank fields become null), or null when none are set
+     */
+    static ApplicationLinks from(ApplyJobRequest request) {
+        String portfolioUrl = url("portfolioUrl", request.portfolioUrl());
+        String linkedinUrl = url("linkedinUrl", request.linkedinUrl());
+        String githubUrl = url("githubUrl", request.githubUrl());
+        String additionalNotes = clean(request.additionalNotes());
+        if (portfolioUrl == null && linkedinUrl == null && githubUrl == null && additionalNotes == null) {
+            return null;
+        }
+        return new ApplicationLinks(portfolioUrl, linkedinUrl, githubUrl, additionalNotes);
+    }
+
+    private static String url(String field, String value) {
+        String url = clean(value);
+        if (url != null && url.length() > MAX_URL_LENGTH) {
+            throw new ValidationException(field + " is longer than " + MAX_URL_LENGTH + " characters");
+        }
+        return url;
+    }
+
+    private static String clean(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobtracking.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves the optional application fields from the legacy {@code extension} JSON column into their typed columns
+ * Runs at startup in small batches until no row has extension JSON left; each migrated row has its
+ * extension cleared, so the migration is idempotent and cheap once done. The legacy column is left in place.
+ * Rows whose JSON is invalid or holds a URL longer than its column are skipped and logged, keeping
+ * their extension for manual repair; a failing migration is logged and never aborts startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationLinksMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationLinksMigration.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Rows a batch can migrate: valid JSON and every URL within the 500 characters of its column
+    private static final String MIGRATABLE = """
+            JSON_VALID(extension)
+            AND CHAR_LENGTH(COALESCE(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.portfolioUrl'))), '')) <= 500
+            AND CHAR_LENGTH(COALESCE(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.linkedinUrl'))), '')) <= 500
+            AND CHAR_LENGTH(COALESCE(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.githubUrl'))), '')) <= 500""";
+
+    private static final String MIGRATE_BATCH = """
+            UPDATE applications
+            SET portfolio_url = NULLIF(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.portfolioUrl'))), ''),
+                linkedin_url = NULLIF(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.linkedinUrl'))), ''),
+                github_url = NULLIF(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.githubUrl'))), ''),
+                additional_notes = NULLIF(TRIM(JSON_UNQUOTE(JSON_EXTRACT(extension, '$.additionalNotes'))), ''),
+                extension = NULL
+            WHERE extension IS NOT NULL AND %s
+            LIMIT ?
+            """.formatted(MIGRATABLE);
+
+    private static final String COUNT_SKIPPED = """
+            SELECT COUNT(*) FROM applications
+            WHERE extension IS NOT NULL AND NOT (%s)
+            """.formatted(MIGRATABLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        int migrated = 0;
+        try {
+            Integer legacyColumn = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.columns
+                    WHERE table_schema = DATABASE() AND table_name = 'applications' AND column_name = 'extension'
+                    """, Integer.class);
+            if (legacyColumn == null || legacyColumn == 0) {
+                return; // Database created after the switch to typed columns
+            }
+
+            int updated;
+            do {
+                updated = jdbcTemplate.update(MIGRATE_BATCH, BATCH_SIZE);
+                migrated += updated;
+            } while (updated == BATCH_SIZE);
+
+            Integer skipped = jdbcTemplate.queryForObject(COUNT_SKIPPED, Integer.class);
+            if (skipped != null && skipped > 0) {
+                logger.warn("Left extension JSON of {} applications in place: invalid JSON or a URL over 500 characters",
+                        skipped);
+            }
+        } catch (Exception e) {
+            // Already migrated batches are committed - the rest is retried on the next startup
+            logger.error("Application links migration stopped after {} rows: {}", migrated, e.getMessage());
+        }
+
+        if (migrated > 0) {
+            logger.info("Migrated extension JSON of {} applications to typed columns", migrated);
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.jobtracking.application.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+
+import com.jobtracking.application.dto.ApplicationPipelineResponse;
+import com.jobtracking.application.dto.BulkStatusUpdateRequest;
+import com.jobtracking.application.dto.BulkStatusUpdateResult;
 import com.jobtracking.application.dto.CandidateApplicationResponse;
 import com.jobtracking.application.dto.ApplicationResponse;
+import com.jobtracking.application.dto.RankedApplicationResponse;
 import com.jobtracking.application.dto.UpdateStatusRequest;
 import com.jobtracking.application.dto.ApplyJobRequest;
 import com.jobtracking.application.entity.Application;
@@ -14,11 +23,21 @@ public interface ApplicationService {
 
     List<ApplicationResponse> getApplication(Long jobId);
 
+    Page<RankedApplicationResponse> getRankedApplications(Long jobId, int page, int size);
+
+    ApplicationPipelineResponse getApplicationPipeline(Long jobId, List<String> statuses, String cursor, Integer size);
+
     ApplicationResponse updateApplication(Long id, UpdateStatusRequest updateStatusRequest);
 
+    BulkStatusUpdateResult updateApplicationStatuses(Long recruiterId, BulkStatusUpdateRequest request);
+
     void createApplication(Long jobId, Long userId, ApplyJobRequest application);
     
     boolean hasUserAppliedForJob(Long jobId, Long userId);
+
+    Set<Long> getAppliedJobIds(Long userId, Collection<Long> jobIds);
+
+    void withdrawApplication(Long applicationId, Long userId);
     
     Optional<Application> getApplicationById(Long id);
 }
\ No newline at end of file
@@ -1,31 +1,66 @@
 package com.jobtracking.application.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.application.dto.ApplicationPipelineResponse;
 import com.jobtracking.application.dto.ApplicationResponse;
 import com.jobtracking.application.dto.ApplyJobRequest;
+import com.jobtracking.application.dto.BulkStatusUpdateRequest;
+import com.jobtracking.application.dto.BulkStatusUpdateResult;
 import com.jobtracking.application.dto.CandidateApplicationResponse;
+import com.jobtracking.application.dto.RankedApplicationResponse;
 import com.jobtracking.application.dto.UpdateStatusRequest;
 import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.entity.ApplicationLinks;
 import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.event.ApplicationChangedEvent;
 import com.jobtracking.application.repository.ApplicationRepository;
 import com.jobtracking.auth.entity.User;
 import com.jobtracking.auth.repository.UserRepository;
+import com.jobtracking.common.dto.PageResponse;
 import com.jobtracking.common.exception.ApplicationException;
+import com.jobtracking.common.exception.AuthorizationException;
 import com.jobtracking.common.exception.DuplicateEntityException;
+import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.common.exception.InvalidStatusTransitionException;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.common.service.EntityLoaders;
+import com.jobtracking.common.utils.AuthorizationUtil;
+import com.jobtracking.common.utils.CursorUtil;
+import com.jobtracking.common.utils.ExperienceUtil;
+import com.jobtracking.common.utils.ValidationUtil;
 import com.jobtracking.job.entity.Job;
 import com.jobtracking.job.repository.JobRepository;
-import com.jobtracking.organization.repository.OrganizationRepository;
+import com.jobtracking.job.search.SkillMatchScorer;
+import com.jobtracking.organization.service.OrganizationDirectory;
 import com.jobtracking.profile.entity.JobSeekerProfile;
-import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+import com.jobtracking.profile.entity.JobSeekerSkill;
+import com.jobtracking.profile.entity.Skill;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,12 +70,15 @@ import lombok.RequiredArgsConstructor;
 public class ApplicationServiceImpl implements ApplicationService {
 
     private final ApplicationRepository applicationRepository;
-    private final JobSeekerProfileRepository jobSeekerProfileRepository;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
-    private final OrganizationRepository organizationRepository;
+    private final OrganizationDirectory organizationDirectory;
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityLoaders entityLoaders;
+    private final AuthorizationUtil authorizationUtil;
+    private final ApplicationStatusUpdater applicationStatusUpdater;
+    private final AppliedJobsIndex appliedJobsIndex;
 
     @Override
     public void createApplication(Long jobId, Long userId, ApplyJobRequest applyJobRequest) {
@@ -49,23 +87,35 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found"));
-        // First guard: service-level duplicate check
-        if (applicationRepository.existsByJobIdAndUserId(jobId, userId)) {
+        // First guard: service-level duplicate check, answered from memory
+        if (appliedJobsIndex.hasApplied(userId, jobId)) {
             throw new DuplicateEntityException("Application", "job " + jobId + " for user " + userId);
         }
 
-        
+        ApplicationLinks links = ApplicationLinksFactory.from(applyJobRequest);
+
+        // A withdrawn application still holds the unique key - reopen it as a fresh submission
+        Long withdrawnId = applicationRepository.findWithdrawnId(jobId, userId).orElse(null);
+        if (withdrawnId != null) {
+            // No links in the resubmission clears the ones of the withdrawn application
+            ApplicationLinks reopened = links != null ? links : new ApplicationLinks();
+            applicationRepository.reopenWithdrawn(withdrawnId, ApplicationStatus.APPLIED, applyJobRequest.resume(),
+                    applyJobRequest.coverLetter(), reopened.getPortfolioUrl(), reopened.getLinkedinUrl(),
+                    reopened.getGithubUrl(), reopened.getAdditionalNotes(), LocalDateTime.now());
+            auditLogService.log("APPLICATION", withdrawnId, "APPLIED", userId,
+                    "Re-applied for job: " + job.getTitle());
+            eventPublisher.publishEvent(new ApplicationChangedEvent(withdrawnId, jobId, userId,
+                    ApplicationChangedEvent.ChangeType.SUBMITTED, ApplicationStatus.APPLIED));
+            return;
+        }
+
         Application application = new Application();
         application.setJob(job);
         application.setUser(user);
         application.setResumePath(applyJobRequest.resume());
         application.setCoverLetter(applyJobRequest.coverLetter());
         
-        // Store additional fields in extension JSON
-        if (hasAdditionalFields(applyJobRequest)) {
-            String extensionJson = buildExtensionJson(applyJobRequest);
-            application.setExtension(extensionJson);
-        }
+        application.setLinks(links);
         
         try {
             Application savedApplication = applicationRepository.save(application);
@@ -73,66 +123,41 @@ public class ApplicationServiceImpl implements ApplicationService {
             // Log job application
             auditLogService.log("APPLICATION", savedApplication.getId(), "APPLIED", userId, 
                 "Applied for job: " + job.getTitle());
+
+            eventPublisher.publishEvent(new ApplicationChangedEvent(savedApplication.getId(), jobId, userId,
+                    ApplicationChangedEvent.ChangeType.SUBMITTED, savedApplication.getStatus()));
                 
         } catch (DataIntegrityViolationException ex) {
             // Second guard: DB-level safety (race condition)
             throw new DuplicateEntityException("Application", "job " + jobId + " for user " + userId);
         }
     }
-    
-    private boolean hasAdditionalFields(ApplyJobRequest request) {
-        return (request.portfolioUrl() != null && !request.portfolioUrl().trim().isEmpty()) ||
-               (request.linkedinUrl() != null && !request.linkedinUrl().trim().isEmpty()) ||
-               (request.githubUrl() != null && !request.githubUrl().trim().isEmpty()) ||
-               (request.additionalNotes() != null && !request.additionalNotes().trim().isEmpty());
-    }
-    
-    private String buildExtensionJson(ApplyJobRequest request) {
-        StringBuilder json = new StringBuilder("{");
-        boolean hasField = false;
-        
-        if (request.portfolioUrl() != null && !request.portfolioUrl().trim().isEmpty()) {
-            json.append("\"portfolioUrl\":\"").append(request.portfolioUrl().trim()).append("\"");
-            hasField = true;
-        }
-        
-        if (request.linkedinUrl() != null && !request.linkedinUrl().trim().isEmpty()) {
-            if (hasField) json.append(",");
-            json.append("\"linkedinUrl\":\"").append(request.linkedinUrl().trim()).append("\"");
-            hasField = true;
-        }
-        
-        if (request.githubUrl() != null && !request.githubUrl().trim().isEmpty()) {
-            if (hasField) json.append(",");
-            json.append("\"githubUrl\":\"").append(request.githubUrl().trim()).append("\"");
-            hasField = true;
-        }
-        
-        if (request.additionalNotes() != null && !request.additionalNotes().trim().isEmpty()) {
-            if (hasField) json.append(",");
-            json.append("\"additionalNotes\":\"").append(request.additionalNotes().trim().replace("\"", "\\\"")).append("\"");
-        }
-        
-        json.append("}");
-        return json.toString();
-    }
 
     @Override
     public List<CandidateApplicationResponse> getCandidateApplication(Long userId) {
-        return applicationRepository.findByUserId(userId)
-                .stream()
+        List<Application> applications = applicationRepository.findByUserId(userId);
+
+        // Jobs of all applications in one query instead of one lazy load per row
+        Map<Long, Job> jobs = entityLoaders.jobs().getAll(applications.stream()
+                .map(application -> application.getJob().getId())
+                .toList());
+
+        return applications.stream()
                 .map(application -> {
+                    Job job = jobs.get(application.getJob().getId());
+
                     // Get company name by companyId
                     String companyName = "Unknown Company";
-                    if (application.getJob().getCompany() != null) {
-                        companyName = organizationRepository.findById(application.getJob().getCompany().getId())
-                                .map(org -> org.getName())
-                                .orElse("Unknown Company");
+                    if (job.getCompany() != null) {
+                        String name = organizationDirectory.getName(job.getCompany().getId());
+                        if (name != null) {
+                            companyName = name;
+                        }
                     }
                     
                     return new CandidateApplicationResponse(
                             application.getId(),
-                            application.getJob().getTitle(),
+                            job.getTitle(),
                             companyName,
                             application.getStatus().name(),
                             application.getAppliedAt().toLocalDate(),
@@ -143,42 +168,290 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public List<ApplicationResponse> getApplication(Long jobId) {
-        return applicationRepository.findByJobId(jobId)
-                .stream()
-                .map(this::mapToApplicationResponse)
+        List<Application> applications = applicationRepository.findByJobIdWithUser(jobId);
+        Map<Long, JobSeekerProfile> profiles = loadProfiles(applications);
+        return applications.stream()
+                .map(application -> mapToApplicationResponse(application, profiles.get(application.getUser().getId())))
                 .toList();
     }
 
     @Override
-    public ApplicationResponse updateApplication(Long id, UpdateStatusRequest updateStatusRequest) {
-        return applicationRepository.findById(id)
-                .map(application -> {
-                    ApplicationStatus oldStatus = application.getStatus();
-                    ApplicationStatus newStatus = ApplicationStatus.valueOf(updateStatusRequest.status().toUpperCase());
-                    
-                    // Update status if it has changed
-                    if (oldStatus == null || !oldStatus.equals(newStatus)) {
-                        application.setStatus(newStatus);
-                        Application savedApplication = applicationRepository.save(application);
-                        
-                        // Log status change (performed by recruiter/admin)
-                        auditLogService.log("APPLICATION", savedApplication.getId(), "STATUS_CHANGED", 
-                            savedApplication.getJob().getRecruiter() != null && savedApplication.getJob().getRecruiter().getUser() != null ? 
-                                savedApplication.getJob().getRecruiter().getUser().getId() : null, 
-                            "Changed from " + oldStatus + " to " + newStatus);
-                        
-                        return savedApplication;
+    @Transactional(readOnly = true)
+    public Page<RankedApplicationResponse> getRankedApplications(Long jobId, int page, int size) {
+        ValidationUtil.validateRange(page, 0, Integer.MAX_VALUE, "Page must be non-negative");
+        ValidationUtil.validateRange(size, 1, 100, "Size must be between 1 and 100");
+
+        Job job = jobRepository.findAllWithSkillsByIdIn(List.of(jobId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Job", jobId));
+        Set<Long> requiredSkills = job.getSkills() == null ? Set.of() : job.getSkills().stream()
+                .map(Skill::getId)
+                .collect(Collectors.toSet());
+
+        // Two queries for any number of applicants: applications with users, then profiles with skills
+        List<Application> applications = applicationRepository.findByJobIdWithUser(jobId);
+        Map<Long, JobSeekerProfile> profiles = loadProfiles(applications);
+
+        List<ApplicantScore> scores = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            JobSeekerProfile profile = profiles.get(application.getUser().getId());
+            scores.add(scoreApplicant(application, profile, requiredSkills, job));
+        }
+        // Best match first; ties keep the most recent application first (the query order)
+        scores.sort(Comparator.comparingDouble(ApplicantScore::score).reversed());
+
+        // Only the requested page is mapped to full responses
+        int from = (int) Math.min((long) page * size, scores.size());
+        int to = Math.min(from + size, scores.size());
+        List<RankedApplicationResponse> content = new ArrayList<>(to - from);
+        for (ApplicantScore applicant : scores.subList(from, to)) {
+            Application application = applicant.application();
+            content.add(new RankedApplicationResponse(
+                    mapToApplicationResponse(application, profiles.get(application.getUser().getId())),
+                    applicant.score(),
+                    applicant.matchedSkills(),
+                    requiredSkills.size()));
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size), scores.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationPipelineResponse getApplicationPipeline(Long jobId, List<String> statuses, String cursor, Integer size) {
+        int pageSize = CursorUtil.pageSize(size);
+        Set<ApplicationStatus> filter = parseStatuses(statuses);
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Application> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = filter == null
+                    ? applicationRepository.findPipelineFirstPage(jobId, limit)
+                    : applicationRepository.findPipelineFirstPageByStatus(jobId, filter, limit);
+        } else {
+            String[] key = CursorUtil.decode(cursor, 2);
+            LocalDateTime appliedAt;
+            long id;
+            try {
+                appliedAt = LocalDateTime.parse(key[0]);
+                id = Long.parseLong(key[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            applications = filter == null
+                    ? applicationRepository.findPipelinePageAfter(jobId, appliedAt, id, limit)
+                    : applicationRepository.findPipelinePageAfterByStatus(jobId, filter, appliedAt, id, limit);
+        }
+
+        boolean hasMore = applications.size() > pageSize;
+        if (hasMore) {
+            applications = applications.subList(0, pageSize);
+        }
+        Map<Long, JobSeekerProfile> profiles = loadProfiles(applications);
+        List<ApplicationResponse> items = applications.stream()
+                .map(application -> mapToApplicationResponse(application, profiles.get(application.getUser().getId())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            Application last = applications.get(applications.size() - 1);
+            nextCursor = CursorUtil.encode(last.getAppliedAt(), last.getId());
+        }
+
+        // Every status column, including empty ones, in workflow order
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            statusCounts.put(status.name(), 0L);
+        }
+        long total = 0;
+        for (Object[] row : applicationRepository.countByStatusForJob(jobId)) {
+            long count = ((Number) row[1]).longValue();
+            statusCounts.put(((ApplicationStatus) row[0]).name(), count);
+            total += count;
+        }
+        return new ApplicationPipelineResponse(PageResponse.of(items, nextCursor), statusCounts, total);
+    }
+
+    /**
+     * Status filter from request values - null when no filter was given
+     */
+    private Set<ApplicationStatus> parseStatuses(List<String> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        Set<ApplicationStatus> parsed = EnumSet.noneOf(ApplicationStatus.class);
+        for (String status : statuses) {
+            try {
+                parsed.add(ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Unknown application status: " + status);
+            }
+        }
+        return parsed;
+    }
+
+    private record ApplicantScore(Application application, double score, int matchedSkills) {
+    }
+
+    private ApplicantScore scoreApplicant(Application application, JobSeekerProfile profile,
+                                          Set<Long> requiredSkills, Job job) {
+        double matchedWeight = 0;
+        int matchedSkills = 0;
+        Integer years = null;
+        if (profile != null) {
+            Set<Long> seen = new HashSet<>();
+            if (profile.getSkills() != null) {
+                for (JobSeekerSkill seekerSkill : profile.getSkills()) {
+                    Long skillId = seekerSkill.getSkill().getId();
+                    if (requiredSkills.contains(skillId) && seen.add(skillId)) {
+                        matchedWeight += SkillMatchScorer.proficiencyWeight(seekerSkill.getProficiency());
+                        matchedSkills++;
                     }
-                    
-                    return application;
-                })
-                .map(this::mapToApplicationResponse)
-                .orElseThrow(() -> new RuntimeException("Application not found"));
+                }
+            }
+            years = ExperienceUtil.parseYears(profile.getExperience());
+        }
+        double experienceFit = SkillMatchScorer.experienceFit(years, job.getMinExperience(), job.getMaxExperience());
+        return new ApplicantScore(application,
+                SkillMatchScorer.score(matchedWeight, requiredSkills.size(), experienceFit), matchedSkills);
+    }
+
+    /**
+     * Profiles (with skills) of all applicants keyed by user ID, in one query
+     */
+    private Map<Long, JobSeekerProfile> loadProfiles(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> userIds = applications.stream()
+                .map(application -> application.getUser().getId())
+                .collect(Collectors.toSet());
+        return entityLoaders.profilesByUserId().getAll(userIds);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // every retry attempt runs in its own transaction
+    public ApplicationResponse updateApplication(Long id, UpdateStatusRequest updateStatusRequest) {
+        ApplicationStatus newStatus = ApplicationStatus.valueOf(updateStatusRequest.status().toUpperCase());
+        ApplicationStatus expectedStatus = updateStatusRequest.expectedStatus() != null
+                ? ApplicationStatus.valueOf(updateStatusRequest.expectedStatus().toUpperCase())
+                : null;
+
+        ApplicationStatusUpdater.Transition transition = applicationStatusUpdater.transition(id, expectedStatus, newStatus,
+                changed -> {
+                    Application savedApplication = changed.application();
+                    Job job = entityLoaders.jobs().get(savedApplication.getJob().getId());
+
+                    // Log status change (performed by recruiter/admin)
+                    auditLogService.log("APPLICATION", savedApplication.getId(), "STATUS_CHANGED", 
+                        job.getRecruiter() != null && job.getRecruiter().getUser() != null ? 
+                            job.getRecruiter().getUser().getId() : null, 
+                        "Changed from " + changed.previous() + " to " + newStatus);
+
+                    eventPublisher.publishEvent(new ApplicationChangedEvent(savedApplication.getId(),
+                            savedApplication.getJob().getId(), savedApplication.getUser().getId(),
+                            ApplicationChangedEvent.ChangeType.STATUS_CHANGED, newStatus));
+                });
+        return mapToApplicationResponse(transition.application());
     }
 
     @Override
+    public BulkStatusUpdateResult updateApplicationStatuses(Long recruiterId, BulkStatusUpdateRequest request) {
+        ApplicationStatus fromStatus = ApplicationStatus.valueOf(request.fromStatus());
+        ApplicationStatus toStatus = ApplicationStatus.valueOf(request.toStatus());
+        if (fromStatus == toStatus) {
+            throw new ValidationException("New status must differ from the current status");
+        }
+        if (!fromStatus.canTransitionTo(toStatus)) {
+            throw new InvalidStatusTransitionException("application", fromStatus, toStatus);
+        }
+        List<Long> ids = request.applicationIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // 1 statement: lock the rows so the guarded update below changes exactly the rows judged eligible
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : applicationRepository.lockStatusByIdIn(ids)) {
+            rows.put(((Number) row[0]).longValue(), row);
+        }
+
+        // Authorize once per job, with all jobs loaded in one query
+        Map<Long, Boolean> authorizedJobs = new HashMap<>();
+        rows.values().forEach(row -> entityLoaders.jobs().queue(((Number) row[1]).longValue()));
+        for (Object[] row : rows.values()) {
+            authorizedJobs.computeIfAbsent(((Number) row[1]).longValue(),
+                    jobId -> authorizationUtil.isRecruiterAuthorizedForJob(recruiterId, jobId));
+        }
+
+        List<BulkStatusUpdateResult.Outcome> outcomes = new ArrayList<>(ids.size());
+        List<Object[]> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] row = rows.get(id);
+            if (row == null) {
+                outcomes.add(new BulkStatusUpdateResult.Outcome(id, BulkStatusUpdateResult.Result.NOT_FOUND, null));
+            } else if (!authorizedJobs.get(((Number) row[1]).longValue())) {
+                outcomes.add(new BulkStatusUpdateResult.Outcome(id, BulkStatusUpdateResult.Result.FORBIDDEN, null));
+            } else if (!fromStatus.name().equals(row[3])) {
+                outcomes.add(new BulkStatusUpdateResult.Outcome(id, BulkStatusUpdateResult.Result.STATUS_MISMATCH,
+                        (String) row[3]));
+            } else {
+                outcomes.add(new BulkStatusUpdateResult.Outcome(id, BulkStatusUpdateResult.Result.UPDATED, toStatus.name()));
+                eligible.add(row);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return new BulkStatusUpdateResult(0, outcomes);
+        }
+
+        List<Long> eligibleIds = eligible.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        // 1 statement: set-based update guarded by the expected status
+        int updated = applicationRepository.updateStatusByIdIn(eligibleIds, fromStatus, toStatus, LocalDateTime.now());
+        // 1 batched statement: one audit record per application
+        auditLogService.logBatch("APPLICATION", eligibleIds, "STATUS_CHANGED", recruiterId,
+                "Changed from " + fromStatus + " to " + toStatus);
+
+        for (Object[] row : eligible) {
+            eventPublisher.publishEvent(new ApplicationChangedEvent(((Number) row[0]).longValue(),
+                    ((Number) row[1]).longValue(), ((Number) row[2]).longValue(),
+                    ApplicationChangedEvent.ChangeType.STATUS_CHANGED, toStatus));
+        }
+        return new BulkStatusUpdateResult(updated, outcomes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean hasUserAppliedForJob(Long jobId, Long userId) {
-        return applicationRepository.existsByJobIdAndUserId(jobId, userId);
+        return appliedJobsIndex.hasApplied(userId, jobId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getAppliedJobIds(Long userId, Collection<Long> jobIds) {
+        return appliedJobsIndex.appliedAmong(userId, jobIds);
+    }
+
+    @Override
+    public void withdrawApplication(Long applicationId, Long userId) {
+        Application application = applicationRepository.findByIdAndNotDeleted(applicationId)
+                .orElseThrow(() -> new EntityNotFoundException("Application", applicationId));
+        if (!application.getUser().getId().equals(userId)) {
+            throw new AuthorizationException("withdraw", "application " + applicationId);
+        }
+        // The outcome of a decided application is part of the hiring record
+        if (application.getStatus() == ApplicationStatus.HIRED || application.getStatus() == ApplicationStatus.REJECTED) {
+            throw new InvalidStatusTransitionException("Cannot withdraw an application that is already "
+                    + application.getStatus());
+        }
+
+        application.markAsDeleted();
+        applicationRepository.save(application);
+
+        auditLogService.log("APPLICATION", applicationId, "WITHDRAWN", userId,
+                "Withdrew application for job: " + application.getJob().getId());
+
+        eventPublisher.publishEvent(new ApplicationChangedEvent(applicationId, application.getJob().getId(), userId,
+                ApplicationChangedEvent.ChangeType.WITHDRAWN, application.getStatus()));
     }
 
     @Override
@@ -187,9 +460,13 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     private ApplicationResponse mapToApplicationResponse(Application application) {
+        JobSeekerProfile profile = entityLoaders.profilesByUserId().get(application.getUser().getId());
+        return mapToApplicationResponse(application, profile);
+    }
+
+    private ApplicationResponse mapToApplicationResponse(Application application, JobSeekerProfile profile) {
         try {
             User user = application.getUser();
-            JobSeekerProfile profile = jobSeekerProfileRepository.findByUserId(user.getId()).orElse(null);
             List<String> skills = List.of(); // Default empty list
             
             if (profile != null && profile.getSkills() != null) {
@@ -202,34 +479,8 @@ public class ApplicationServiceImpl implements ApplicationService {
                 }
             }
 
-            // Parse extension JSON to extract additional fields
-            String portfolioUrl = null;
-            String linkedinUrl = null;
-            String githubUrl = null;
-            String additionalNotes = null;
-            
-            if (application.getExtension() != null && !application.getExtension().trim().isEmpty()) {
-                try {
-                    String extension = application.getExtension();
-                    
-                    // Use Jackson ObjectMapper for proper JSON parsing
-                    JsonNode jsonNode = objectMapper.readTree(extension);
-                    
-                    portfolioUrl = jsonNode.has("portfolioUrl") ? jsonNode.get("portfolioUrl").asText(null) : null;
-                    linkedinUrl = jsonNode.has("linkedinUrl") ? jsonNode.get("linkedinUrl").asText(null) : null;
-                    githubUrl = jsonNode.has("githubUrl") ? jsonNode.get("githubUrl").asText(null) : null;
-                    additionalNotes = jsonNode.has("additionalNotes") ? jsonNode.get("additionalNotes").asText(null) : null;
-                    
-                    // Clean up empty strings
-                    portfolioUrl = (portfolioUrl != null && portfolioUrl.trim().isEmpty()) ? null : portfolioUrl;
-                    linkedinUrl = (linkedinUrl != null && linkedinUrl.trim().isEmpty()) ? null : linkedinUrl;
-                    githubUrl = (githubUrl != null && githubUrl.trim().isEmpty()) ? null : githubUrl;
-                    additionalNotes = (additionalNotes != null && additionalNotes.trim().isEmpty()) ? null : additionalNotes;
-                    
-                } catch (Exception e) {
-                    // Keep additional fields as null if parsing fails
-                }
-            }
+            // Typed columns - nothing to parse
+            ApplicationLinks links = application.getLinks() != null ? application.getLinks() : new ApplicationLinks();
 
             return new ApplicationResponse(
                     application.getId(),
@@ -239,10 +490,10 @@ public class ApplicationServiceImpl implements ApplicationService {
                     application.getStatus().name(),
                     application.getResumePath(),
                     application.getCoverLetter(),
-                    portfolioUrl,
-                    linkedinUrl,
-                    githubUrl,
-                    additionalNotes);
+                    links.getPortfolioUrl(),
+                    links.getLinkedinUrl(),
+                    links.getGithubUrl(),
+                    links.getAdditionalNotes());
         } catch (Exception e) {
             throw new ApplicationException("Error processing application data");
         }
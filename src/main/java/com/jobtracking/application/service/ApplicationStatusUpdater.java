@@ -0,0 +1,83 @@
+package com.jobtracking.application.service;
+
+import java.util.function.Consumer;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.common.exception.ConcurrentUpdateException;
+import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.common.exception.InvalidStatusTransitionException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies application status transitions with optimistic locking
+ * Each attempt reads the application, checks the transition against the status workflow and writes it
+ * with a version check in its own transaction. When another writer committed first, the attempt is
+ * repeated on the fresh state, so a change that is still valid afterwards goes through instead of
+ * overwriting or failing. No row lock is held between the read and the write.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationStatusUpdater {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final ApplicationRepository applicationRepository;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Result of a transition - {@code changed} is false when the application already had the target status
+     */
+    public record Transition(Application application, ApplicationStatus previous, boolean changed, int attempts) {
+    }
+
+    /**
+     * Move the application to {@code target}, optionally only if it is currently {@code expected}
+     * {@code onChanged} runs inside the committing transaction (audit rows, events), once per successful change.
+     */
+    public Transition transition(Long applicationId, ApplicationStatus expected, ApplicationStatus target,
+                                 Consumer<Transition> onChanged) {
+        for (int attempt = 1; ; attempt++) {
+            int current = attempt;
+            try {
+                return transactionOperations.execute(
+                        status -> apply(applicationId, expected, target, current, onChanged));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new ConcurrentUpdateException("Application", applicationId);
+                }
+            }
+        }
+    }
+
+    private Transition apply(Long applicationId, ApplicationStatus expected, ApplicationStatus target,
+                             int attempt, Consumer<Transition> onChanged) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new EntityNotFoundException("Application", applicationId));
+        ApplicationStatus previous = application.getStatus();
+
+        // Someone already made the same change - nothing left to do
+        if (previous == target) {
+            return new Transition(application, previous, false, attempt);
+        }
+        if (expected != null && previous != expected) {
+            throw new InvalidStatusTransitionException(
+                    "Application " + applicationId + " is " + previous + ", expected " + expected);
+        }
+        if (previous != null && !previous.canTransitionTo(target)) {
+            throw new InvalidStatusTransitionException("application", previous, target);
+        }
+
+        application.setStatus(target);
+        Application saved = applicationRepository.saveAndFlush(application);
+        Transition transition = new Transition(saved, previous, true, attempt);
+        onChanged.accept(transition);
+        return transition;
+    }
+}
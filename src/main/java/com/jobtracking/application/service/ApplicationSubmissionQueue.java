@@ -0,0 +1,360 @@
+package com.jobtracking.application.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobtracking.application.dto.ApplicationSubmissionResponse;
+import com.jobtracking.application.dto.ApplicationSubmissionResponse.State;
+import com.jobtracking.application.dto.ApplyJobRequest;
+import com.jobtracking.application.entity.ApplicationLinks;
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.event.ApplicationChangedEvent;
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.common.exception.DuplicateEntityException;
+import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.job.search.JobFacetIndex;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Accept-then-persist path for job applications, for bursts on popular jobs
+ * A submission is checked against in-memory state only (the job is active, the user has not applied
+ * and has no submission in flight for the job), acknowledged with a submission ID and queued.
+ * One writer thread drains the queue and writes each batch in a single transaction; pairs that already
+ * have a row are filtered out first, and a batch that still hits the {@code (job_id, seeker_id)} unique key
+ * (a concurrent synchronous apply) is retried once so the lookup can report the duplicate.
+ * Outcomes are only published to clients after the transaction has committed.
+ * Anything the in-memory state cannot vouch for, or a full queue, falls back to the synchronous path.
+ * Enabled with {@code app.applications.write-behind.enabled}.
+ */
+@Component
+public class ApplicationSubmissionQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSubmissionQueue.class);
+
+    private static final Duration STATUS_RETENTION = Duration.ofHours(1);
+
+    private static final String INSERT_APPLICATION = """
+            INSERT INTO applications (job_id, seeker_id, resume_path, cover_letter, portfolio_url,
+                                      linkedin_url, github_url, additional_notes, status,
+                                      applied_at, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    // A withdrawn application still holds the unique key - re-applying reopens its row
+    private static final String REOPEN_APPLICATION = """
+            UPDATE applications
+            SET deleted_at = NULL, status = ?, resume_path = ?, cover_letter = ?, portfolio_url = ?,
+                linkedin_url = ?, github_url = ?, additional_notes = ?, recruiter_notes = NULL,
+                completion_datetime = NULL, applied_at = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND deleted_at IS NOT NULL
+            """;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Submission> queue;
+    private final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+    // (user, job) pairs queued or being written - a second submission for the same pair is a duplicate
+    private final Set<Key> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppliedJobsIndex appliedJobsIndex;
+    private final JobFacetIndex jobFacetIndex;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    private record Key(long userId, long jobId) {
+    }
+
+    /**
+     * Result of one submission within a batch - applied to the submission only after commit
+     */
+    private record Outcome(Submission submission, State state, Long applicationId, String message) {
+    }
+
+    /**
+     * One accepted submission; its state is updated by the writer thread
+     */
+    private static final class Submission {
+        final String id = UUID.randomUUID().toString();
+        final long userId;
+        final long jobId;
+        final ApplyJobRequest request;
+        final ApplicationLinks links;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        volatile State state = State.QUEUED;
+        volatile Long applicationId;
+        volatile String message;
+        volatile LocalDateTime completedAt;
+
+        Submission(long userId, long jobId, ApplyJobRequest request, ApplicationLinks links) {
+            this.userId = userId;
+            this.jobId = jobId;
+            this.request = request;
+            this.links = links != null ? links : new ApplicationLinks();
+        }
+
+        void complete(State state, Long applicationId, String message) {
+            this.applicationId = applicationId;
+            this.message = message;
+            this.completedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        ApplicationSubmissionResponse toResponse() {
+            return new ApplicationSubmissionResponse(id, jobId, state, applicationId, message, submittedAt);
+        }
+    }
+
+    public ApplicationSubmissionQueue(@Value("${app.applications.write-behind.enabled:false}") boolean enabled,
+                                      @Value("${app.applications.write-behind.queue-capacity:10000}") int queueCapacity,
+                                      @Value("${app.applications.write-behind.batch-size:200}") int batchSize,
+                                      JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      AuditLogService auditLogService,
+                                      ApplicationEventPublisher eventPublisher,
+                                      AppliedJobsIndex appliedJobsIndex,
+                                      JobFacetIndex jobFacetIndex) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
+        this.appliedJobsIndex = appliedJobsIndex;
+        this.jobFacetIndex = jobFacetIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("application-writer").daemon().start(this::drainLoop);
+        logger.info("Write-behind application queue started (batch size {})", batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // The writer finishes its current batch and exits within one poll interval
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        // Whatever was still queued is written before shutdown
+        List<Submission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Queue the application and return its submission ID, or empty when it must take the synchronous path
+     */
+    public Optional<String> trySubmit(Long jobId, Long userId, ApplyJobRequest request) {
+        if (!running || !jobFacetIndex.contains(jobId)) {
+            // Unknown or inactive job - let the synchronous path report it precisely
+            return Optional.empty();
+        }
+        ApplicationLinks links = ApplicationLinksFactory.from(request);
+        Key key = new Key(userId, jobId);
+        if (appliedJobsIndex.hasApplied(userId, jobId) || !inFlight.add(key)) {
+            throw new DuplicateEntityException("Application", "job " + jobId + " for user " + userId);
+        }
+        Submission submission = new Submission(userId, jobId, request, links);
+        submissions.put(submission.id, submission);
+        if (!queue.offer(submission)) {
+            // Queue full - this request is served synchronously instead
+            submissions.remove(submission.id);
+            inFlight.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(submission.id);
+    }
+
+    /**
+     * State of one of the user's submissions
+     */
+    public ApplicationSubmissionResponse getSubmission(String submissionId, Long userId) {
+        Submission submission = submissions.get(submissionId);
+        if (submission == null || submission.userId != userId) {
+            throw new EntityNotFoundException("Submission", submissionId);
+        }
+        return submission.toResponse();
+    }
+
+    /**
+     * Forget finished submissions once clients have had time to poll them
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(STATUS_RETENTION);
+        submissions.values().removeIf(s -> s.completedAt != null && s.completedAt.isBefore(cutoff));
+    }
+
+    private void drainLoop() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Submission first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Application writer failed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write one batch in a single transaction and record the outcome of every submission
+     */
+    private void flush(List<Submission> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Outcome> outcomes;
+            try {
+                outcomes = transactionTemplate.execute(status -> write(batch));
+            } catch (DuplicateKeyException e) {
+                // A synchronous apply for one of the pairs committed after our lookup - the retry reports it
+                outcomes = transactionTemplate.execute(status -> write(batch));
+            }
+            outcomes.forEach(outcome -> outcome.submission()
+                    .complete(outcome.state(), outcome.applicationId(), outcome.message()));
+        } catch (Exception e) {
+            logger.error("Write-behind batch of {} applications failed: {}", batch.size(), e.getMessage());
+            // Nothing of the batch was committed
+            batch.forEach(submission -> submission.complete(State.FAILED, null, "Application could not be saved"));
+        } finally {
+            batch.forEach(submission -> inFlight.remove(new Key(submission.userId, submission.jobId)));
+        }
+    }
+
+    private List<Outcome> write(List<Submission> batch) {
+        Map<Key, Object[]> existingRows = lookup(batch);
+        // Live rows are duplicates; withdrawn rows are reopened in place
+        Set<Key> existing = new HashSet<>();
+        List<Submission> fresh = new ArrayList<>();
+        List<Submission> reopened = new ArrayList<>();
+        for (Submission submission : batch) {
+            Key key = new Key(submission.userId, submission.jobId);
+            Object[] row = existingRows.get(key);
+            if (row == null) {
+                fresh.add(submission);
+            } else if ((Boolean) row[2]) {
+                reopened.add(submission);
+            } else {
+                existing.add(key);
+            }
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_APPLICATION, fresh.stream()
+                .map(submission -> new Object[] {
+                        submission.jobId, submission.userId, submission.request.resume(),
+                        submission.request.coverLetter(), submission.links.getPortfolioUrl(),
+                        submission.links.getLinkedinUrl(), submission.links.getGithubUrl(),
+                        submission.links.getAdditionalNotes(), ApplicationStatus.APPLIED.name(), now, now, now })
+                .toList());
+        jdbcTemplate.batchUpdate(REOPEN_APPLICATION, reopened.stream()
+                .map(submission -> new Object[] {
+                        ApplicationStatus.APPLIED.name(), submission.request.resume(),
+                        submission.request.coverLetter(), submission.links.getPortfolioUrl(),
+                        submission.links.getLinkedinUrl(), submission.links.getGithubUrl(),
+                        submission.links.getAdditionalNotes(), now, now,
+                        existingRows.get(new Key(submission.userId, submission.jobId))[0] })
+                .toList());
+
+        List<Submission> stored = new ArrayList<>(fresh);
+        stored.addAll(reopened);
+        Map<Key, Object[]> written = stored.isEmpty() ? Map.of() : lookup(stored);
+        List<AuditLogService.Entry> auditEntries = new ArrayList<>();
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        for (Submission submission : batch) {
+            Key key = new Key(submission.userId, submission.jobId);
+            Object[] row = written.get(key);
+            if (existing.contains(key)) {
+                outcomes.add(new Outcome(submission, State.DUPLICATE, null, "Already applied for this job"));
+            } else if (row == null) {
+                throw new IllegalStateException("Stored application for job " + submission.jobId + " not found");
+            } else {
+                Long applicationId = ((Number) row[0]).longValue();
+                auditEntries.add(new AuditLogService.Entry(applicationId, submission.userId,
+                        "Applied for job: " + row[1]));
+                eventPublisher.publishEvent(new ApplicationChangedEvent(applicationId, submission.jobId,
+                        submission.userId, ApplicationChangedEvent.ChangeType.SUBMITTED, ApplicationStatus.APPLIED));
+                outcomes.add(new Outcome(submission, State.PERSISTED, applicationId, null));
+            }
+        }
+        auditLogService.logBatch("APPLICATION", "APPLIED", auditEntries);
+        return outcomes;
+    }
+
+    /**
+     * Application ID, job title and withdrawn flag of each (user, job) pair of the batch that has a row
+     */
+    private Map<Key, Object[]> lookup(List<Submission> batch) {
+        String pairs = String.join(", ", Collections.nCopies(batch.size(), "(?, ?)"));
+        Object[] args = new Object[batch.size() * 2];
+        for (int i = 0; i < batch.size(); i++) {
+            args[2 * i] = batch.get(i).jobId;
+            args[2 * i + 1] = batch.get(i).userId;
+        }
+        Map<Key, Object[]> rows = new HashMap<>();
+        jdbcTemplate.query("SELECT a.id, j.title, a.job_id, a.seeker_id, a.deleted_at FROM applications a "
+                        + "JOIN jobs j ON j.id = a.job_id WHERE (a.job_id, a.seeker_id) IN (" + pairs + ")",
+                rs -> {
+                    rows.put(new Key(rs.getLong("seeker_id"), rs.getLong("job_id")),
+                            new Object[] { rs.getLong("id"), rs.getString("title"), rs.getTimestamp("deleted_at") != null });
+                },
+                args);
+        return rows;
+    }
+}
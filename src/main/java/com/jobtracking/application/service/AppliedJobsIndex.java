@@ -0,0 +1,208 @@
+package com.jobtracking.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.application.event.ApplicationChangedEvent;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.common.collection.LongHashSet;
+import com.jobtracking.common.collection.LongObjectMap;
+import com.jobtracking.common.collection.PairBloomFilter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory answer to "has this user applied to this job"
+ * A Bloom filter over every live (user, job) pair rules out most negatives with a few bit probes.
+ * Only when it says "maybe" is the user's set of applied job IDs consulted; that set is loaded
+ * with one query on first use and kept up to date from application events after commit.
+ * Until the filter is built at startup, lookups fall through to the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppliedJobsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppliedJobsIndex.class);
+
+    private static final int MAX_CACHED_USERS = 50_000;
+
+    private final ApplicationRepository applicationRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private PairBloomFilter bloomFilter;
+    private final LongObjectMap<LongHashSet> appliedByUser = new LongObjectMap<>(1024);
+    // Pairs added while the filter is being rebuilt - replayed into the new filter
+    private List<long[]> addedDuringRebuild;
+    // Bumped on every write so a user set loaded concurrently with a write is not cached stale
+    private long writes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        lock.writeLock().lock();
+        try {
+            if (addedDuringRebuild != null) {
+                return; // Another rebuild is already running
+            }
+            addedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> pairs;
+        PairBloomFilter rebuilt;
+        try {
+            pairs = applicationRepository.findAllAppliedPairs();
+            rebuilt = new PairBloomFilter(pairs.size() * 2);
+            for (Object[] pair : pairs) {
+                rebuilt.add(((Number) pair[0]).longValue(), ((Number) pair[1]).longValue());
+            }
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            addedDuringRebuild.forEach(pair -> rebuilt.add(pair[0], pair[1]));
+            addedDuringRebuild = null;
+            bloomFilter = rebuilt;
+            appliedByUser.clear();
+            writes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Built applied-jobs filter over {} applications", pairs.size());
+    }
+
+    /**
+     * Whether the user has a live application for the job
+     */
+    public boolean hasApplied(Long userId, Long jobId) {
+        return !appliedAmong(userId, List.of(jobId)).isEmpty();
+    }
+
+    /**
+     * The subset of {@code jobIds} the user has applied to - at most one query, usually none
+     */
+    public Set<Long> appliedAmong(Long userId, Collection<Long> jobIds) {
+        Set<Long> applied = new LinkedHashSet<>();
+        List<Long> maybe = new ArrayList<>();
+        long seenWrites;
+
+        lock.readLock().lock();
+        try {
+            if (bloomFilter != null) {
+                for (Long jobId : jobIds) {
+                    if (jobId != null && bloomFilter.mightContain(userId, jobId)) {
+                        maybe.add(jobId);
+                    }
+                }
+                if (maybe.isEmpty()) {
+                    return applied;
+                }
+            } else {
+                jobIds.stream().filter(Objects::nonNull).forEach(maybe::add);
+            }
+            LongHashSet cached = appliedByUser.get(userId);
+            if (cached != null) {
+                maybe.stream().filter(cached::contains).forEach(applied::add);
+                return applied;
+            }
+            seenWrites = writes;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        LongHashSet loaded = loadUser(userId, seenWrites);
+        maybe.stream().filter(loaded::contains).forEach(applied::add);
+        return applied;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        switch (event.type()) {
+            case SUBMITTED -> add(event.userId(), event.jobId());
+            case WITHDRAWN -> remove(event.userId(), event.jobId());
+            default -> {
+                // Status changes do not affect membership
+            }
+        }
+    }
+
+    private void add(long userId, long jobId) {
+        boolean saturated;
+        lock.writeLock().lock();
+        try {
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(new long[] { userId, jobId });
+            }
+            if (bloomFilter != null) {
+                bloomFilter.add(userId, jobId);
+            }
+            LongHashSet cached = appliedByUser.get(userId);
+            if (cached != null) {
+                cached.add(jobId);
+            }
+            writes++;
+            saturated = addedDuringRebuild == null && bloomFilter != null && bloomFilter.isSaturated();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (saturated) {
+            // Resize before the false positive rate degrades; also drops withdrawn pairs
+            loadAll();
+        }
+    }
+
+    private void remove(long userId, long jobId) {
+        lock.writeLock().lock();
+        try {
+            // The Bloom filter keeps the pair until its next rebuild; the user set is authoritative
+            LongHashSet cached = appliedByUser.get(userId);
+            if (cached != null) {
+                cached.remove(jobId);
+            }
+            writes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private LongHashSet loadUser(long userId, long seenWrites) {
+        List<Long> jobIds = applicationRepository.findAppliedJobIdsByUserId(userId);
+        LongHashSet loaded = new LongHashSet(jobIds.size());
+        jobIds.forEach(loaded::add);
+
+        lock.writeLock().lock();
+        try {
+            // A write landed while loading - answer from this result but do not cache it
+            if (writes != seenWrites || bloomFilter == null) {
+                return loaded;
+            }
+            if (appliedByUser.size() >= MAX_CACHED_USERS) {
+                appliedByUser.clear();
+            }
+            appliedByUser.put(userId, loaded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return loaded;
+    }
+}
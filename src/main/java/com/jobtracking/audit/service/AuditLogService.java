@@ -1,9 +1,16 @@
 package com.jobtracking.audit.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -14,10 +21,15 @@ import com.jobtracking.audit.repository.AuditLogRepository;
 public class AuditLogService {
 	private final AuditLogRepository repo;
 	private final ObjectMapper objectMapper;
+	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public AuditLogService(AuditLogRepository repo, ObjectMapper objectMapper) {
+	public AuditLogService(AuditLogRepository repo, ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+			ApplicationEventPublisher eventPublisher) {
 		this.repo = repo;
 		this.objectMapper = objectMapper;
+		this.jdbcTemplate = jdbcTemplate;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public void log(String entity, Long entityId, String action, Long userId) {
@@ -44,21 +56,76 @@ public class AuditLogService {
 		log.setPerformedBy(userId);
 		log.setPerformedAt(LocalDateTime.now());
 		
-		// Convert details to proper JSON format using ObjectMapper
-		if (details != null && !details.trim().isEmpty()) {
-			try {
-				ObjectNode jsonNode = objectMapper.createObjectNode();
-				jsonNode.put("details", details);
-				log.setExtension(objectMapper.writeValueAsString(jsonNode));
-			} catch (Exception e) {
-				// Fallback to simple JSON if ObjectMapper fails
-				log.setExtension("{\"details\":\"Error serializing details\"}");
-			}
-		}
-		
+		log.setExtension(detailsJson(details));
 		repo.save(log);
 	}
 
+	// One record per entity ID, written with a single batched insert (bulk operations)
+	public void logBatch(String entity, Collection<Long> entityIds, String action, Long userId, String details) {
+		if (entityIds.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String extension = detailsJson(details);
+		List<Object[]> rows = new ArrayList<>(entityIds.size());
+		for (Long entityId : entityIds) {
+			rows.add(new Object[] { entity, entityId, action, userId, now, extension, now, now });
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO logs (entity, entity_id, action, performed_by, performed_at, extension, created_at, updated_at) "
+						+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+				rows);
+	}
+
+	// One record per entry, each with its own entity ID, user and details, in a single batched insert
+	public void logBatch(String entity, String action, List<Entry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(entries.size());
+		for (Entry entry : entries) {
+			rows.add(new Object[] { entity, entry.entityId(), action, entry.userId(), now, detailsJson(entry.details()), now, now });
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO logs (entity, entity_id, action, performed_by, performed_at, extension, created_at, updated_at) "
+						+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+				rows);
+	}
+
+	public record Entry(Long entityId, Long userId, String details) {
+	}
+
+	public record Deferred(String entity, Long entityId, String action, Long userId, String details) {
+	}
+
+	// Same as log(...) but written on the async executor, off the request's connection, and only
+	// once the caller's transaction has committed - a rolled back write leaves no audit record
+	public void logAsync(String entity, Long entityId, String action, Long userId, String details) {
+		eventPublisher.publishEvent(new Deferred(entity, entityId, action, userId, details));
+	}
+
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDeferred(Deferred entry) {
+		log(entry.entity(), entry.entityId(), entry.action(), entry.userId(), entry.details());
+	}
+
+	// Convert details to proper JSON format using ObjectMapper
+	private String detailsJson(String details) {
+		if (details == null || details.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			ObjectNode jsonNode = objectMapper.createObjectNode();
+			jsonNode.put("details", details);
+			return objectMapper.writeValueAsString(jsonNode);
+		} catch (Exception e) {
+			// Fallback to simple JSON if ObjectMapper fails
+			return "{\"details\":\"Error serializing details\"}";
+		}
+	}
+
 	public List<AuditLog> findAll() {
 		return repo.findAllByOrderByPerformedAtDesc();
 	}
@@ -3,9 +3,11 @@ package com.jobtracking.auth.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jobtracking.auth.entity.User;
 import com.jobtracking.common.repository.BaseRepository;
@@ -48,4 +50,12 @@ public interface UserRepository extends BaseRepository<User> {
     // Find users by language preference
     @Query("SELECT u FROM User u WHERE u.languagePref = :languagePref ORDER BY u.createdAt DESC")
     List<User> findByLanguagePref(@Param("languagePref") String languagePref);
+    
+    // Replace the password hash unless it changed since it was read (bcrypt cost upgrades on login)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :userId AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
 }
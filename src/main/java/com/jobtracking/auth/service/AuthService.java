@@ -1,7 +1,6 @@
 package com.jobtracking.auth.service;
 
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.audit.service.AuditLogService;
@@ -22,7 +21,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthService {
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	private final JwtUtil jwtUtil;
 	private final AuditLogService auditLogService;
 
@@ -38,7 +37,7 @@ public class AuthService {
 		User user = User.builder()
 				.username(request.getUsername())
 				.email(request.getEmail())
-				.passwordHash(passwordEncoder.encode(request.getPassword()))
+				.passwordHash(passwordHasher.encode(request.getPassword()))
 				.roleId(request.getRoleId())
 				.fullname(request.getFullname())
 				.phone(request.getPhone())
@@ -55,7 +54,8 @@ public class AuthService {
 
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new AuthorizationException("Invalid credentials"));
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        // Hashing runs on a bounded pool - a saturated pool answers 503 instead of blocking request threads
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             throw new AuthorizationException("Invalid credentials");
         }
 
@@ -63,6 +63,14 @@ public class AuthService {
             throw new AuthorizationException("User account is deactivated");
         }
 
+        // Upgrade hashes made at a lower bcrypt cost while the plain password is at hand
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            Long userId = user.getId();
+            String oldHash = user.getPasswordHash();
+            passwordHasher.rehashInBackground(request.getPassword(),
+                    newHash -> userRepository.updatePasswordHash(userId, oldHash, newHash));
+        }
+
         String token = jwtUtil.generateToken(user.getId(), user.getRoleId());
 
         // Log successful login
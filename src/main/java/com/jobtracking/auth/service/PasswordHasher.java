@@ -0,0 +1,240 @@
+package com.jobtracking.auth.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs bcrypt on a dedicated, bounded pool instead of on request threads
+ * At most {@code threads} hashes run at once. A hash is only queued if the work already queued ahead of
+ * it, at the measured time per hash, lets it finish within {@code max-wait-ms}; otherwise it fails fast
+ * with a 503 at submit time, so a login spike neither occupies every request thread nor piles up hashes
+ * whose callers have given up (a running bcrypt cannot be interrupted). {@code queue-capacity} is only a
+ * hard upper bound. The bcrypt cost is calibrated at startup so one hash takes about {@code target-ms},
+ * never below the bcrypt default; hashes with a lower cost are flagged for upgrade, and the upgrades run
+ * on a separate single thread so they never take a slot from logins.
+ * Metrics: password.hash.queue.size, password.hash.active, password.hash.strength,
+ * password.hash.wait, password.hash.duration (operation=encode|matches), password.hash.rejected
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    // BCryptPasswordEncoder's default - calibration never goes below it
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final int REHASH_QUEUE_CAPACITY = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor rehashExecutor;
+    private final int poolSize;
+    private final long maxWaitMs;
+    private final long targetMs;
+    // Moving average of one hash on the pool - approximate, a racing update just drops a sample
+    private volatile long hashNanos;
+    private volatile BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+    private volatile int strength = MIN_STRENGTH;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(@Value("${app.security.password-hash.threads:0}") int threads,
+                          @Value("${app.security.password-hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.security.password-hash.max-wait-ms:2000}") long maxWaitMs,
+                          @Value("${app.security.password-hash.target-ms:250}") long targetMs,
+                          MeterRegistry meterRegistry) {
+        // bcrypt is pure CPU - by default leave half the cores to the rest of the application
+        this.poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rehashExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REHASH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMs = maxWaitMs;
+        this.targetMs = targetMs;
+        this.hashNanos = TimeUnit.MILLISECONDS.toNanos(targetMs);
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.strength", this, hasher -> hasher.strength)
+                .description("Current bcrypt cost factor")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("Time a password hash waited in the queue")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Password hashes refused because the hashing pool was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pick the bcrypt cost whose hash time is closest to, but not above, the target
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        try {
+            BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+            long bestNanos = Long.MAX_VALUE;
+            for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+                long nanos = run(() -> {
+                    long start = System.nanoTime();
+                    probe.encode("calibration-password");
+                    return System.nanoTime() - start;
+                });
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+            // Each extra cost step doubles the work
+            double ratio = TimeUnit.MILLISECONDS.toNanos(targetMs) / (double) bestNanos;
+            int calibrated = MIN_STRENGTH + (ratio >= 1 ? (int) Math.floor(Math.log(ratio) / Math.log(2)) : 0);
+            calibrated = Math.min(MAX_STRENGTH, calibrated);
+            encoder = new BCryptPasswordEncoder(calibrated);
+            strength = calibrated;
+            hashNanos = bestNanos << (calibrated - MIN_STRENGTH);
+            logger.info("Calibrated bcrypt cost to {} (cost {} takes {} ms, target {} ms)",
+                    calibrated, MIN_STRENGTH, TimeUnit.NANOSECONDS.toMillis(bestNanos), targetMs);
+        } catch (RuntimeException e) {
+            logger.warn("bcrypt calibration failed, keeping cost {}: {}", strength, e.getMessage());
+        }
+    }
+
+    /**
+     * Hash a password at the current cost
+     */
+    public String encode(String rawPassword) {
+        BCryptPasswordEncoder current = encoder;
+        return run(() -> encodeTimer.recordCallable(() -> current.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        BCryptPasswordEncoder current = encoder;
+        return run(() -> matchesTimer.recordCallable(() -> current.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Whether a stored hash uses a lower cost than the current one
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hash on the rehash thread and hand the result to the callback - skipped when that thread is busy,
+     * since an upgrade can always wait for the next login
+     */
+    public void rehashInBackground(String rawPassword, Consumer<String> callback) {
+        BCryptPasswordEncoder current = encoder;
+        try {
+            rehashExecutor.execute(() -> {
+                try {
+                    callback.accept(current.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    logger.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Busy - try again on a later login
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        rehashExecutor.shutdownNow();
+    }
+
+    /**
+     * Run a task on the hashing pool and wait for it - 503 when it could not finish within max-wait-ms
+     */
+    private <T> T run(Callable<T> task) {
+        // Everything queued or running finishes before this task does, poolSize hashes at a time
+        long ahead = executor.getQueue().size() + executor.getActiveCount();
+        long expectedNanos = (ahead / poolSize + 1) * hashNanos;
+        // A free thread always accepts - even a machine slower than max-wait-ms per hash serves logins
+        if (ahead >= poolSize && expectedNanos > TimeUnit.MILLISECONDS.toNanos(maxWaitMs)) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many login attempts in progress, please retry shortly");
+        }
+
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                T result = task.call();
+                hashNanos = (hashNanos * 7 + (System.nanoTime() - startedAt)) / 8;
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many login attempts in progress, please retry shortly");
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if still queued; a hash already running completes but is discarded
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many login attempts in progress, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
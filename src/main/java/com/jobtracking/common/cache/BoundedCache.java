@@ -0,0 +1,163 @@
+package com.jobtracking.common.cache;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small LRU cache bounded by entry count and by total weight (approximate bytes)
+ * Loads that race with an invalidation are not stored, so a value read before a write
+ * commits can never outlive the invalidation for that write.
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalWeight;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private record Entry<V>(V value, long weight) {
+    }
+
+    public BoundedCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Return the cached value or load it; null results are not cached
+     */
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.value();
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            putIfGeneration(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Cached value without loading, counts as hit or miss
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    /**
+     * Generation to pass to {@link #putIfGeneration} for values loaded outside {@link #get}
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Store a value unless something was invalidated since the load started
+     */
+    public synchronized void putIfGeneration(K key, V value, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+        evictIfNeeded();
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    public synchronized void invalidateAll(Collection<K> keys) {
+        generation++;
+        for (K key : keys) {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                totalWeight -= removed.weight();
+            }
+        }
+    }
+
+    public synchronized void invalidateIf(Predicate<V> predicate) {
+        generation++;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (predicate.test(entry.value())) {
+                totalWeight -= entry.weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && eldest.hasNext()) {
+            totalWeight -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
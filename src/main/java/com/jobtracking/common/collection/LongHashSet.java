@@ -0,0 +1,142 @@
+package com.jobtracking.common.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive longs
+ * Same layout as {@link LongObjectMap}: one long array plus an occupancy array,
+ * no boxing and no node objects per element. Not thread safe.
+ */
+public class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private boolean[] used;
+    private int size;
+    private int resizeAt;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public boolean contains(long key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the key - false if it was already present
+     */
+    public boolean add(long key) {
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return false;
+            }
+        }
+        keys[i] = key;
+        used[i] = true;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Remove the key - false if it was not present
+     */
+    public boolean remove(long key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                shiftBack(i, mask);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEach(LongConsumer consumer) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Backward-shift deletion keeps probe chains intact without tombstones
+     */
+    private void shiftBack(int hole, int mask) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) {
+                break;
+            }
+            int home = slot(keys[i], mask);
+            boolean movable = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+            if (movable) {
+                keys[hole] = keys[i];
+                hole = i;
+            }
+        }
+        used[hole] = false;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                int i = slot(oldKeys[j], mask);
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                used[i] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        // Spread the bits - sequential IDs would otherwise cluster
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobtracking.common.collection;
+
+/**
+ * Bloom filter over pairs of long IDs, e.g. (user, job)
+ * Answers "definitely absent" or "maybe present" in a handful of bit probes.
+ * Sized for about 1% false positives at the expected number of pairs; elements cannot be removed,
+ * so callers rebuild it once {@link #isSaturated()} reports that more pairs were added than it was sized for.
+ * Not thread safe.
+ */
+public class PairBloomFilter {
+
+    private static final int BITS_PER_ELEMENT = 10;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int expectedSize;
+    private int added;
+
+    public PairBloomFilter(int expectedSize) {
+        this.expectedSize = Math.max(1024, expectedSize);
+        this.bitCount = (long) this.expectedSize * BITS_PER_ELEMENT;
+        this.words = new long[(int) ((bitCount + 63) >>> 6)];
+    }
+
+    public void add(long first, long second) {
+        long h1 = mix(first * 0x9E3779B97F4A7C15L ^ second);
+        long h2 = mix(h1 ^ second * 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        added++;
+    }
+
+    /**
+     * False means the pair was never added; true means it probably was
+     */
+    public boolean mightContain(long first, long second) {
+        long h1 = mix(first * 0x9E3779B97F4A7C15L ^ second);
+        long h2 = mix(h1 ^ second * 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * More pairs were added than the filter was sized for - the false positive rate is climbing
+     */
+    public boolean isSaturated() {
+        return added > expectedSize;
+    }
+
+    public int added() {
+        return added;
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobtracking.common.dto;
+
+import java.util.List;
+
+/**
+ * Cursor based page of results
+ * nextCursor is opaque to clients - pass it back as-is to fetch the next page
+ */
+public record PageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasMore,
+        int size) {
+
+    public static <T> PageResponse<T> of(List<T> items, String nextCursor) {
+        return new PageResponse<>(items, nextCursor, nextCursor != null, items.size());
+    }
+}
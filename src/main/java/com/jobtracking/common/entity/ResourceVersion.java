@@ -0,0 +1,30 @@
+package com.jobtracking.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Shared version counter of one cacheable resource or collection, the source of its ETag and Last-Modified
+ * Kept in the database so every node hands out the same validators; written by ResourceVersionService.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "resource_versions")
+public class ResourceVersion {
+
+    @Id
+    @Column(name = "resource_key", length = 191)
+    private String resourceKey;
+
+    @Column(nullable = false)
+    private long version;
+
+    // Epoch millis of the last change
+    @Column(name = "modified_at", nullable = false)
+    private long modifiedAt;
+}
@@ -0,0 +1,20 @@
+package com.jobtracking.common.exception;
+
+/**
+ * Exception thrown when an entity keeps changing underneath an update and retries are exhausted
+ */
+public class ConcurrentUpdateException extends BusinessException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String entityType, Long id) {
+        super(entityType + " " + id + " was modified concurrently, please reload and try again");
+    }
+
+    @Override
+    protected String getDefaultErrorCode() {
+        return "CONCURRENT_UPDATE";
+    }
+}
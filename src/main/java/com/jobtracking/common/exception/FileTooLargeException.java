@@ -0,0 +1,16 @@
+package com.jobtracking.common.exception;
+
+/**
+ * Exception thrown when an uploaded file exceeds the configured size limit
+ */
+public class FileTooLargeException extends BusinessException {
+
+    public FileTooLargeException(long maxBytes) {
+        super("File is larger than the limit of " + maxBytes + " bytes");
+    }
+
+    @Override
+    protected String getDefaultErrorCode() {
+        return "FILE_TOO_LARGE";
+    }
+}
@@ -2,6 +2,9 @@ package com.jobtracking.common.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -39,6 +42,40 @@ public class GlobalExceptionHandler {
         return ResponseUtil.forbidden(ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidStatusTransitionException(InvalidStatusTransitionException ex) {
+        logger.warn("Invalid status transition: {}", ex.getMessage());
+        return ResponseUtil.conflict(ex.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConcurrentUpdateException(ConcurrentUpdateException ex) {
+        logger.warn("Concurrent update: {}", ex.getMessage());
+        return ResponseUtil.conflict(ex.getMessage());
+    }
+
+    @ExceptionHandler(FileTooLargeException.class)
+    public ResponseEntity<ApiResponse<Object>> handleFileTooLargeException(FileTooLargeException ex) {
+        logger.warn("File too large: {}", ex.getMessage());
+        return ResponseUtil.error(ex.getMessage(), HttpStatus.CONTENT_TOO_LARGE);
+    }
+
+    // Saturated bounded resource (e.g. the password hashing pool) - tell the client to back off
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        logger.warn("Service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiResponse<>(false, ex.getMessage(), null));
+    }
+
+    // Version check failed on an entity that is not retried automatically (e.g. job edits)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Optimistic locking failure: {}", ex.getMessage());
+        return ResponseUtil.conflict("The record was modified by someone else, please reload and try again");
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(ValidationException ex) {
         logger.warn("Validation failed: {}", ex.getMessage());
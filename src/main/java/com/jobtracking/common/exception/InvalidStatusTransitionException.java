@@ -0,0 +1,20 @@
+package com.jobtracking.common.exception;
+
+/**
+ * Exception thrown when a status change is not allowed from the entity's current status
+ */
+public class InvalidStatusTransitionException extends BusinessException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+
+    public InvalidStatusTransitionException(String entityType, Object from, Object to) {
+        super("Cannot move " + entityType + " from " + from + " to " + to);
+    }
+
+    @Override
+    protected String getDefaultErrorCode() {
+        return "INVALID_STATUS_TRANSITION";
+    }
+}
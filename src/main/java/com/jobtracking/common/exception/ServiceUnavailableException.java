@@ -0,0 +1,16 @@
+package com.jobtracking.common.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request should be retried later
+ */
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    protected String getDefaultErrorCode() {
+        return "SERVICE_UNAVAILABLE";
+    }
+}
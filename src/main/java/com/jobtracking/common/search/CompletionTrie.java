@@ -0,0 +1,291 @@
+package com.jobtracking.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Weighted radix trie for autocomplete
+ * Edges carry whole substrings, so single-child chains are collapsed into one node.
+ * Every node caches the highest weight in its subtree, which lets completions come out
+ * best-first without visiting the whole subtree. Typo tolerance walks the trie with a
+ * Levenshtein row per edge character and prunes as soon as the row exceeds the allowed edits.
+ * Thread safe - lookups share a read lock, updates take the write lock.
+ */
+public class CompletionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * One completion: the stored key, its ID and weight, and the edits needed to match the query as a prefix
+     */
+    public record Completion(long id, String key, double weight, int distance) {
+    }
+
+    private static final class Node {
+        String label;
+        Node[] children = NO_CHILDREN;
+        boolean terminal;
+        long id;
+        String key;
+        double weight;
+        double maxWeight = Double.NEGATIVE_INFINITY;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void addChild(Node child) {
+            int insertAt = -(indexOf(child.label.charAt(0)) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertAt);
+            grown[insertAt] = child;
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            children = grown;
+        }
+
+        void replaceChild(Node child) {
+            children[indexOf(child.label.charAt(0))] = child;
+        }
+
+        void recomputeMaxWeight() {
+            double max = terminal ? weight : Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    /**
+     * Add a key or replace the ID/weight of an existing one
+     */
+    public void put(String key, long id, double weight) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            String rest = key;
+            path.add(node);
+            while (!rest.isEmpty()) {
+                Node child = node.child(rest.charAt(0));
+                if (child == null) {
+                    child = new Node(rest);
+                    node.addChild(child);
+                    node = child;
+                    path.add(node);
+                    break;
+                }
+                int common = commonPrefixLength(child.label, rest);
+                if (common < child.label.length()) {
+                    // Split the edge at the point where the new key diverges
+                    Node split = new Node(child.label.substring(0, common));
+                    node.replaceChild(split);
+                    child.label = child.label.substring(common);
+                    split.children = new Node[] { child };
+                    split.recomputeMaxWeight();
+                    child = split;
+                }
+                node = child;
+                path.add(node);
+                rest = rest.substring(common);
+            }
+
+            if (!node.terminal) {
+                size++;
+            }
+            node.terminal = true;
+            node.id = id;
+            node.key = key;
+            node.weight = weight;
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).recomputeMaxWeight();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} keys that start with a string within {@code maxEdits} edits of the prefix
+     * Results are ordered by edit distance, then by weight (highest first).
+     */
+    public List<Completion> complete(String prefix, int maxEdits, int limit) {
+        if (prefix == null || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Candidate.ORDER);
+        lock.readLock().lock();
+        try {
+            if (maxEdits <= 0) {
+                Node match = exactPrefix(prefix);
+                if (match != null) {
+                    queue.add(Candidate.subtree(match, 0));
+                }
+            } else {
+                int[] row = new int[prefix.length() + 1];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = i;
+                }
+                if (row[prefix.length()] <= maxEdits) {
+                    queue.add(Candidate.subtree(root, row[prefix.length()]));
+                } else {
+                    for (Node child : root.children) {
+                        collectFuzzy(child, prefix, row, maxEdits, queue);
+                    }
+                }
+            }
+            return drain(queue, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node exactPrefix(String prefix) {
+        Node node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Node child = node.child(rest.charAt(0));
+            if (child == null) {
+                return null;
+            }
+            if (child.label.startsWith(rest)) {
+                return child;
+            }
+            if (!rest.startsWith(child.label)) {
+                return null;
+            }
+            rest = rest.substring(child.label.length());
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Extend the Levenshtein row over the node's edge label and queue its subtree if the whole query
+     * matched within the allowed edits at any point along the edge
+     */
+    private void collectFuzzy(Node node, String query, int[] parentRow, int maxEdits, PriorityQueue<Candidate> queue) {
+        int[] row = parentRow;
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < node.label.length(); i++) {
+            row = nextRow(row, query, node.label.charAt(i));
+            best = Math.min(best, row[query.length()]);
+            if (min(row) > maxEdits) {
+                break;
+            }
+        }
+        if (best <= maxEdits) {
+            queue.add(Candidate.subtree(node, best));
+        }
+        // Keep descending while a closer match is still possible below
+        if (best > 0 && min(row) <= maxEdits) {
+            for (Node child : node.children) {
+                collectFuzzy(child, query, row, maxEdits, queue);
+            }
+        }
+    }
+
+    private static int[] nextRow(int[] previous, String query, char c) {
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        for (int i = 1; i < row.length; i++) {
+            int substitution = previous[i - 1] + (query.charAt(i - 1) == c ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(previous[i] + 1, row[i - 1] + 1));
+        }
+        return row;
+    }
+
+    private static int min(int[] row) {
+        return Arrays.stream(row).min().orElse(0);
+    }
+
+    /**
+     * Best-first expansion: subtrees are ordered by their cached max weight, so a terminal
+     * leaves the queue only when nothing left can outrank it
+     */
+    private List<Completion> drain(PriorityQueue<Candidate> queue, int limit) {
+        List<Completion> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            Node node = candidate.node();
+            if (candidate.completion()) {
+                if (seen.add(node.id)) {
+                    result.add(new Completion(node.id, node.key, node.weight, candidate.distance()));
+                }
+                continue;
+            }
+            if (node.terminal) {
+                queue.add(new Candidate(node, candidate.distance(), node.weight, true));
+            }
+            for (Node child : node.children) {
+                queue.add(Candidate.subtree(child, candidate.distance()));
+            }
+        }
+        return result;
+    }
+
+    private record Candidate(Node node, int distance, double weight, boolean completion) {
+
+        static final Comparator<Candidate> ORDER = Comparator.comparingInt(Candidate::distance)
+                .thenComparing(Comparator.comparingDouble(Candidate::weight).reversed())
+                .thenComparing(Candidate::completion, Comparator.reverseOrder());
+
+        static Candidate subtree(Node node, int distance) {
+            return new Candidate(node, distance, node.maxWeight, false);
+        }
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,347 @@
+package com.jobtracking.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * In-memory inverted index with BM25 ranking
+ * Documents are identified by long IDs and made of weighted fields (title, body, ...).
+ * Postings hold dense internal ordinals so scoring runs over primitive arrays; each document remembers
+ * its slot in every posting list, so removing or replacing it costs O(1) per term.
+ * Thread safe - searches share a read lock, updates take the write lock.
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final float[] fieldBoosts;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] docIds = new long[1024];
+    private float[] docLengths = new float[1024];
+    private String[][] docTerms = new String[1024][];
+    // Position of the document in the posting list of docTerms[ordinal][i]
+    private int[][] docPositions = new int[1024][];
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private int nextOrdinal;
+    private int docCount;
+    private double totalLength;
+
+    /**
+     * @param fieldBoosts one weight per field, in the order fields are passed to {@link #put}
+     */
+    public InvertedIndex(float... fieldBoosts) {
+        this.fieldBoosts = fieldBoosts.clone();
+    }
+
+    /**
+     * A matching document and its BM25 score
+     */
+    public record Hit(long docId, double score) {
+    }
+
+    /**
+     * Add or replace a document
+     */
+    public void put(long docId, String... fields) {
+        if (fields.length != fieldBoosts.length) {
+            throw new IllegalArgumentException("Expected " + fieldBoosts.length + " fields but got " + fields.length);
+        }
+
+        // Analyze outside the lock - weighted term frequency per term
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        for (int i = 0; i < fields.length; i++) {
+            for (String term : TextAnalyzer.terms(fields[i])) {
+                frequencies.merge(term, fieldBoosts[i], Float::sum);
+                length += fieldBoosts[i];
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+
+            int ordinal = allocateOrdinal();
+            docIds[ordinal] = docId;
+            docLengths[ordinal] = length;
+            String[] terms = frequencies.keySet().toArray(new String[0]);
+            int[] positions = new int[terms.length];
+            docTerms[ordinal] = terms;
+            docPositions[ordinal] = positions;
+            ordinals.put(docId, ordinal);
+            for (int slot = 0; slot < terms.length; slot++) {
+                positions[slot] = postings.computeIfAbsent(terms[slot], term -> new PostingList())
+                        .add(ordinal, slot, frequencies.get(terms[slot]));
+            }
+            docCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document, returns false if it was not indexed
+     */
+    public boolean remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every document
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinals.clear();
+            Arrays.fill(docTerms, null);
+            Arrays.fill(docPositions, null);
+            freeCount = 0;
+            nextOrdinal = 0;
+            docCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long docId) {
+        lock.readLock().lock();
+        try {
+            return ordinals.containsKey(docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents for a free text query
+     */
+    public List<Hit> search(String query, int limit) {
+        return search(TextAnalyzer.terms(query), limit, null);
+    }
+
+    /**
+     * Rank documents matching any of the terms, keeping only the best {@code limit} hits
+     *
+     * @param filter optional predicate on document IDs, null accepts everything
+     */
+    public List<Hit> search(Collection<String> terms, int limit, LongPredicate filter) {
+        return search(terms, limit, filter, null);
+    }
+
+    /**
+     * Rank documents matching any of the terms by BM25 plus a per-document boost
+     *
+     * @param filter optional predicate on document IDs, null accepts everything
+     * @param boost optional score added to each matching document before ranking, null adds nothing
+     */
+    public List<Hit> search(Collection<String> terms, int limit, LongPredicate filter, LongToDoubleFunction boost) {
+        Set<String> distinctTerms = new LinkedHashSet<>(terms);
+        if (distinctTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return List.of();
+            }
+
+            float averageLength = (float) (totalLength / docCount);
+            List<PostingList> lists = new ArrayList<>(distinctTerms.size());
+            int candidates = 0;
+            for (String term : distinctTerms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    candidates += list.size;
+                }
+            }
+
+            // Scores live in a table sized to the postings touched, not to the whole catalog
+            ScoreTable scores = new ScoreTable(candidates);
+            for (PostingList list : lists) {
+                float idf = (float) Math.log(1 + (docCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int ordinal = list.ordinals[i];
+                    float tf = list.frequencies[i];
+                    float norm = K1 * (1 - B + B * docLengths[ordinal] / averageLength);
+                    scores.add(ordinal, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+
+            // Bounded min-heap keeps the top hits without sorting every match
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, scores.size) + 1,
+                    Comparator.comparingDouble(Hit::score));
+            for (int slot = 0; slot < scores.keys.length; slot++) {
+                int ordinal = scores.keys[slot] - 1;
+                if (ordinal < 0) {
+                    continue;
+                }
+                long docId = docIds[ordinal];
+                if (filter != null && !filter.test(docId)) {
+                    continue;
+                }
+                double score = boost != null ? scores.values[slot] + boost.applyAsDouble(docId) : scores.values[slot];
+                if (heap.size() < limit) {
+                    heap.add(new Hit(docId, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Hit(docId, score));
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(long docId) {
+        Integer ordinal = ordinals.remove(docId);
+        if (ordinal == null) {
+            return false;
+        }
+        String[] terms = docTerms[ordinal];
+        int[] positions = docPositions[ordinal];
+        for (int slot = 0; slot < terms.length; slot++) {
+            PostingList list = postings.get(terms[slot]);
+            if (list != null) {
+                list.removeAt(positions[slot], docPositions);
+                if (list.size == 0) {
+                    postings.remove(terms[slot]);
+                }
+            }
+        }
+        docCount--;
+        totalLength -= docLengths[ordinal];
+        docTerms[ordinal] = null;
+        docPositions[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+        return true;
+    }
+
+    private int allocateOrdinal() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (nextOrdinal == docIds.length) {
+            int capacity = docIds.length * 2;
+            docIds = Arrays.copyOf(docIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+            docPositions = Arrays.copyOf(docPositions, capacity);
+        }
+        return nextOrdinal++;
+    }
+
+    /**
+     * Unordered postings of one term - parallel arrays of ordinals, weighted frequencies and the
+     * slot of this term in each document's term list
+     */
+    private static final class PostingList {
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int[] slots = new int[4];
+        private int size;
+
+        /**
+         * Append a posting and return its position
+         */
+        int add(int ordinal, int slot, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            slots[size] = slot;
+            return size++;
+        }
+
+        /**
+         * Remove the posting at a position by moving the last one into it, and repoint that document
+         */
+        void removeAt(int position, int[][] docPositions) {
+            size--;
+            if (position != size) {
+                ordinals[position] = ordinals[size];
+                frequencies[position] = frequencies[size];
+                slots[position] = slots[size];
+                docPositions[ordinals[position]][slots[position]] = position;
+            }
+        }
+    }
+
+    /**
+     * Open-addressing map from ordinal to accumulated score, sized for an expected number of documents.
+     * Keys are stored as ordinal + 1 so that 0 marks an empty slot.
+     */
+    private static final class ScoreTable {
+        private final int[] keys;
+        private final float[] values;
+        private final int mask;
+        private int size;
+
+        ScoreTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new float[capacity];
+            mask = capacity - 1;
+        }
+
+        void add(int ordinal, float score) {
+            int key = ordinal + 1;
+            int slot = (key * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += score;
+        }
+    }
+}
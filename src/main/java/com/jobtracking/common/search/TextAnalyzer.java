@@ -0,0 +1,82 @@
+package com.jobtracking.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-cased search terms
+ * Keeps '+' and '#' inside words so "C++" and "C#" stay searchable,
+ * and keeps combining marks so Devanagari (Marathi) words are not broken apart
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "it", "of", "on", "or", "the", "to", "we", "with", "you", "your", "our");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * A term together with its position in the original text (used for highlighting)
+     */
+    public record Token(String term, int start, int end) {
+    }
+
+    /**
+     * Tokenize text keeping character offsets
+     */
+    public static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            boolean partOfWord = isWordChar(cp) || (start >= 0 && (cp == '+' || cp == '#'));
+            if (partOfWord && start < 0) {
+                start = i;
+            } else if (!partOfWord && start >= 0) {
+                addToken(tokens, text, start, i);
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0) {
+            addToken(tokens, text, start, text.length());
+        }
+        return tokens;
+    }
+
+    /**
+     * Tokenize text into terms only
+     */
+    public static List<String> terms(String text) {
+        List<Token> tokens = tokens(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            terms.add(token.term());
+        }
+        return terms;
+    }
+
+    private static void addToken(List<Token> tokens, String text, int start, int end) {
+        String term = text.substring(start, end).toLowerCase(Locale.ROOT);
+        if (!STOP_WORDS.contains(term)) {
+            tokens.add(new Token(term, start, end));
+        }
+    }
+
+    private static boolean isWordChar(int cp) {
+        if (Character.isLetterOrDigit(cp)) {
+            return true;
+        }
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobtracking.common.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * DataLoader-style batching scoped to the current HTTP request
+ * Mapping code queues the keys it will need, and the first lookup resolves every queued key
+ * with one batch call (typically an {@code IN (...)} query). Results, including misses, are kept
+ * for the rest of the request, so later lookups of the same key cost nothing.
+ * Outside a request every {@link #loader} call gets a fresh, uncached loader.
+ */
+@Component
+public class BatchLoaderContext {
+
+    private static final String ATTRIBUTE = BatchLoaderContext.class.getName() + ".LOADERS";
+
+    /**
+     * The loader registered under {@code name} for this request, created on first use
+     * The batch function receives the keys not loaded yet and returns the values it found;
+     * keys missing from its result are remembered as misses.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Loader<K, V> loader(String name, Function<Set<K>, Map<K, V>> batchFunction) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Loader<>(batchFunction);
+        }
+        Map<String, Loader<?, ?>> loaders = (Map<String, Loader<?, ?>>)
+                attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (loaders == null) {
+            loaders = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, loaders, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Loader<K, V>) loaders.computeIfAbsent(name, k -> new Loader<>(batchFunction));
+    }
+
+    /**
+     * Per-request key to value cache that resolves queued keys in batches
+     * Not thread safe - a request is served by one thread.
+     */
+    public static final class Loader<K, V> {
+
+        private final Function<Set<K>, Map<K, V>> batchFunction;
+        private final Set<K> pending = new LinkedHashSet<>();
+        private final Map<K, V> loaded = new HashMap<>();
+
+        private Loader(Function<Set<K>, Map<K, V>> batchFunction) {
+            this.batchFunction = batchFunction;
+        }
+
+        /**
+         * Remember a key for the next batch without loading anything yet
+         */
+        public Loader<K, V> queue(K key) {
+            if (key != null && !loaded.containsKey(key)) {
+                pending.add(key);
+            }
+            return this;
+        }
+
+        public Loader<K, V> queueAll(Collection<K> keys) {
+            keys.forEach(this::queue);
+            return this;
+        }
+
+        /**
+         * Value for the key (null if it does not exist), loading it together with all queued keys
+         */
+        public V get(K key) {
+            if (key == null) {
+                return null;
+            }
+            queue(key);
+            dispatch();
+            return loaded.get(key);
+        }
+
+        /**
+         * Values for the keys that exist, loading all missing ones in one batch
+         */
+        public Map<K, V> getAll(Collection<K> keys) {
+            queueAll(keys);
+            dispatch();
+            Map<K, V> result = new HashMap<>();
+            for (K key : keys) {
+                V value = loaded.get(key);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+
+        private void dispatch() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Set<K> keys = new LinkedHashSet<>(pending);
+            pending.clear();
+            Map<K, V> values = batchFunction.apply(keys);
+            for (K key : keys) {
+                loaded.put(key, values.get(key));
+            }
+        }
+    }
+}
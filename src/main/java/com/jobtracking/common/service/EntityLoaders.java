@@ -0,0 +1,88 @@
+package com.jobtracking.common.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.common.service.BatchLoaderContext.Loader;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.organization.repository.OrganizationRepository;
+import com.jobtracking.profile.entity.JobSeekerProfile;
+import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+import com.jobtracking.profile.repository.RecruiterProfileRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Request-scoped batch loaders for entities looked up one row at a time during mapping and authorization
+ * Each loader runs one {@code IN (...)} query per batch of queued keys and shares its results
+ * with every service in the same request.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLoaders {
+
+    private final BatchLoaderContext context;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final JobSeekerProfileRepository jobSeekerProfileRepository;
+    private final RecruiterProfileRepository recruiterProfileRepository;
+    private final OrganizationRepository organizationRepository;
+
+    /**
+     * Applications by ID
+     */
+    public Loader<Long, Application> applications() {
+        return context.loader("applications", ids -> applicationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity())));
+    }
+
+    /**
+     * Jobs by ID, with recruiter and recruiter user loaded
+     */
+    public Loader<Long, Job> jobs() {
+        return context.loader("jobs", ids -> jobRepository.findAllWithRecruiterByIdIn(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity(), (a, b) -> a)));
+    }
+
+    /**
+     * Job seeker profiles (with skills) by user ID
+     */
+    public Loader<Long, JobSeekerProfile> profilesByUserId() {
+        return context.loader("profilesByUserId", userIds -> jobSeekerProfileRepository.findAllWithSkillsByUserIdIn(userIds)
+                .stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity(), (a, b) -> a)));
+    }
+
+    /**
+     * User ID of each recruiter profile ID
+     */
+    public Loader<Long, Long> recruiterUserIds() {
+        return context.loader("recruiterUserIds", ids -> {
+            Map<Long, Long> userIds = new HashMap<>();
+            for (Object[] row : recruiterProfileRepository.findUserIdsByIdIn(ids)) {
+                userIds.put((Long) row[0], (Long) row[1]);
+            }
+            return userIds;
+        });
+    }
+
+    /**
+     * Verification flag of each organization ID, read from the database for access decisions
+     */
+    public Loader<Long, Boolean> organizationVerified() {
+        return context.loader("organizationVerified", ids -> {
+            Map<Long, Boolean> verified = new HashMap<>();
+            for (Object[] row : organizationRepository.findVerifiedByIdIn(ids)) {
+                verified.put((Long) row[0], Boolean.TRUE.equals(row[1]));
+            }
+            return verified;
+        });
+    }
+}
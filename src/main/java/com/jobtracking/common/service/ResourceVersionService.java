@@ -0,0 +1,121 @@
+package com.jobtracking.common.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Version counters for cacheable resources and collections
+ * Counters live in the resource_versions table and are bumped inside the transaction of the write,
+ * just before it commits, so every node derives the same strong ETag and Last-Modified from them.
+ * A conditional GET costs one primary-key lookup instead of loading the data.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    public static final String JOBS = "jobs";
+    public static final String ORGANIZATIONS = "organizations";
+    // Company names are embedded in job responses
+    public static final String COMPANY_NAMES = "company-names";
+
+    private static final String BUMP = """
+            INSERT INTO resource_versions (resource_key, version, modified_at) VALUES (?, 1, ?)
+            ON DUPLICATE KEY UPDATE version = version + 1, modified_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Counter value and when it last changed
+     */
+    private record Version(long counter, long modifiedAt) {
+    }
+
+    /**
+     * ETag and Last-Modified for a response built from the given resources
+     * lastModified is -1 (no Last-Modified) while none of them has changed yet.
+     */
+    public record Tag(String etag, long lastModified) {
+    }
+
+    public static String job(Long jobId) {
+        return "job:" + jobId;
+    }
+
+    public static String organization(Long organizationId) {
+        return "organization:" + organizationId;
+    }
+
+    /**
+     * Tag for a response depending on the given resource keys - take it before loading the data
+     */
+    public Tag tag(String... keys) {
+        Map<String, Version> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT resource_key, version, modified_at FROM resource_versions WHERE resource_key IN ("
+                        + String.join(", ", Collections.nCopies(keys.length, "?")) + ")",
+                rs -> {
+                    versions.put(rs.getString(1), new Version(rs.getLong(2), rs.getLong(3)));
+                },
+                (Object[]) keys);
+
+        StringBuilder etag = new StringBuilder("\"v");
+        long lastModified = -1;
+        for (String key : keys) {
+            Version version = versions.get(key);
+            long counter = version != null ? version.counter() : 0;
+            etag.append('-').append(Long.toString(counter, 36));
+            if (version != null) {
+                lastModified = Math.max(lastModified, version.modifiedAt());
+            }
+        }
+        return new Tag(etag.append('"').toString(), lastModified);
+    }
+
+    /**
+     * Bump the counters in one batch - keys are written in sorted order so concurrent writers
+     * lock the rows in the same order and cannot deadlock
+     */
+    public void bump(String... keys) {
+        bump(List.of(keys));
+    }
+
+    public void bump(List<String> keys) {
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (String key : new TreeSet<>(keys)) {
+            rows.add(new Object[] { key, now, now });
+        }
+        jdbcTemplate.batchUpdate(BUMP, rows);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        List<String> keys = new ArrayList<>(event.jobIds().size() + 1);
+        keys.add(JOBS);
+        event.jobIds().forEach(jobId -> keys.add(job(jobId)));
+        bump(keys);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        if (event.type() == OrganizationChangedEvent.ChangeType.RENAMED) {
+            bump(ORGANIZATIONS, organization(event.organizationId()), COMPANY_NAMES);
+        } else {
+            bump(ORGANIZATIONS, organization(event.organizationId()));
+        }
+    }
+}
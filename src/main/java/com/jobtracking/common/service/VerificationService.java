@@ -13,6 +13,7 @@ public class VerificationService {
 
     private final OrganizationRepository organizationRepository;
     private final RecruiterProfileRepository recruiterProfileRepository;
+    private final EntityLoaders entityLoaders;
 
     /**
      * Check if recruiter's organization is verified
@@ -25,11 +26,14 @@ public class VerificationService {
 
     /**
      * Check if organization is verified
+     * Read from the database (once per request) rather than the organization directory cache,
+     * so a revoked verification takes effect immediately on every instance.
      */
     public boolean isOrganizationVerified(Long organizationId) {
-        return organizationRepository.findById(organizationId)
-                .map(org -> org.getVerified() != null && org.getVerified())
-                .orElse(false);
+        if (organizationId == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(entityLoaders.organizationVerified().get(organizationId));
     }
 
     /**
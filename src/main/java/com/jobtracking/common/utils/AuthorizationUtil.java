@@ -2,23 +2,25 @@ package com.jobtracking.common.utils;
 
 import org.springframework.stereotype.Component;
 
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.common.service.EntityLoaders;
 import com.jobtracking.common.service.VerificationService;
-import com.jobtracking.job.repository.JobRepository;
-import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.job.entity.Job;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Centralized authorization utility to eliminate duplicate authorization checks
  * Follows DRY principle and provides consistent authorization logic
+ * Jobs and applications come from the request's batch loaders, so repeated checks
+ * (and the service call that follows them) do not query the same rows again.
  */
 @Component
 @RequiredArgsConstructor
 public class AuthorizationUtil {
 
     private final VerificationService verificationService;
-    private final JobRepository jobRepository;
-    private final ApplicationRepository applicationRepository;
+    private final EntityLoaders entityLoaders;
 
     /**
      * Check if recruiter is authorized for organization (owns + verified)
@@ -31,45 +33,41 @@ public class AuthorizationUtil {
      * Check if recruiter is authorized for job (owns job + verified organization)
      */
     public boolean isRecruiterAuthorizedForJob(Long recruiterId, Long jobId) {
-        return jobRepository.findById(jobId)
-                .map(job -> {
-                    Long jobRecruiterId = job.getRecruiter() != null && job.getRecruiter().getUser() != null ? 
-                        job.getRecruiter().getUser().getId() : null;
-                    Long companyId = job.getCompany() != null ? job.getCompany().getId() : null;
-                    return recruiterId.equals(jobRecruiterId) && 
-                           verificationService.isOrganizationVerified(companyId);
-                })
-                .orElse(false);
+        Job job = entityLoaders.jobs().get(jobId);
+        if (job == null) {
+            return false;
+        }
+        Long companyId = job.getCompany() != null ? job.getCompany().getId() : null;
+        return recruiterId.equals(recruiterUserId(job)) &&
+               verificationService.isOrganizationVerified(companyId);
     }
 
     /**
      * Check if recruiter is authorized for application (owns job + verified organization)
      */
     public boolean isRecruiterAuthorizedForApplication(Long recruiterId, Long applicationId) {
-        return applicationRepository.findById(applicationId)
-                .map(app -> isRecruiterAuthorizedForJob(recruiterId, app.getJob().getId()))
-                .orElse(false);
+        Application app = entityLoaders.applications().get(applicationId);
+        return app != null && isRecruiterAuthorizedForJob(recruiterId, app.getJob().getId());
     }
 
     /**
      * Check if user owns the application
      */
     public boolean isUserAuthorizedForApplication(Long userId, Long applicationId) {
-        return applicationRepository.findById(applicationId)
-                .map(app -> app.getUser().getId().equals(userId))
-                .orElse(false);
+        Application app = entityLoaders.applications().get(applicationId);
+        return app != null && app.getUser().getId().equals(userId);
     }
 
     /**
      * Check if recruiter owns the job
      */
     public boolean isRecruiterOwnerOfJob(Long recruiterId, Long jobId) {
-        return jobRepository.findById(jobId)
-                .map(job -> {
-                    Long jobRecruiterId = job.getRecruiter() != null && job.getRecruiter().getUser() != null ? 
-                        job.getRecruiter().getUser().getId() : null;
-                    return recruiterId.equals(jobRecruiterId);
-                })
-                .orElse(false);
+        Job job = entityLoaders.jobs().get(jobId);
+        return job != null && recruiterId.equals(recruiterUserId(job));
+    }
+
+    private Long recruiterUserId(Job job) {
+        return job.getRecruiter() != null && job.getRecruiter().getUser() != null ?
+            job.getRecruiter().getUser().getId() : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.jobtracking.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.jobtracking.common.exception.ValidationException;
+
+/**
+ * Utility class for opaque pagination cursors
+ * A cursor is just the sort key of the last row, encoded as URL safe Base64
+ */
+public class CursorUtil {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode the sort key values of the last returned row
+     */
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i] != null ? parts[i].toString() : "");
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor back into its sort key values
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+
+    /**
+     * Resolve requested page size - defaults when missing, rejects out of range values
+     */
+    public static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        ValidationUtil.validateRange(size, 1, MAX_PAGE_SIZE, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        return size;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobtracking.common.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility for reading years of experience out of free-text profile fields
+ */
+public final class ExperienceUtil {
+
+    private static final Pattern YEARS = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*\\+?\\s*(?:years?|yrs?)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NUMBER_ONLY = Pattern.compile("\\s*(\\d+(?:\\.\\d+)?)\\s*\\+?\\s*");
+    private static final int MAX_YEARS = 50;
+
+    private ExperienceUtil() {
+    }
+
+    /**
+     * Total years mentioned in the text ("2 years at X, 3 yrs at Y" gives 5), or null if none are mentioned
+     */
+    public static Integer parseYears(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        Matcher numberOnly = NUMBER_ONLY.matcher(text);
+        if (numberOnly.matches()) {
+            return clamp(Double.parseDouble(numberOnly.group(1)));
+        }
+
+        double total = 0;
+        boolean found = false;
+        Matcher matcher = YEARS.matcher(text);
+        while (matcher.find()) {
+            total += Double.parseDouble(matcher.group(1));
+            found = true;
+        }
+        return found ? clamp(total) : null;
+    }
+
+    private static int clamp(double years) {
+        return (int) Math.min(MAX_YEARS, Math.floor(years));
+    }
+}
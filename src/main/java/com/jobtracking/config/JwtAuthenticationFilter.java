@@ -1,28 +1,23 @@
 package com.jobtracking.config;
 
-import com.jobtracking.common.utils.RoleMapper;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
     }
 
     // Skip JWT filter for auth APIs
@@ -48,21 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = authHeader.substring(7);
-            Claims claims = jwtUtil.extractClaims(token);
-
-            Long userId = Long.parseLong(claims.getSubject());
-            Integer roleId = claims.get("roleId", Integer.class);
-
-            String roleName = RoleMapper.mapRoleIdToRoleName(roleId);
-
-            List<GrantedAuthority> authorities =
-                    List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+            // Cached per token - repeat requests skip signature verification and claims parsing
+            JwtPrincipal principal = jwtVerifier.verify(token);
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userId.toString(),
+                            principal.userId().toString(),
                             null,
-                            authorities
+                            principal.authorities()
                     );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,17 @@
+package com.jobtracking.config;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Verified identity carried by a JWT - immutable, so one instance is shared by every request with that token
+ *
+ * @param expiresAtMillis the token's expiry (epoch millis), Long.MAX_VALUE if it has none
+ */
+public record JwtPrincipal(Long userId, String role, List<GrantedAuthority> authorities, long expiresAtMillis) {
+
+    public JwtPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+}
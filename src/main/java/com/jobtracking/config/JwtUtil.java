@@ -1,6 +1,7 @@
 package com.jobtracking.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,14 +13,18 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}") //take from application.properties
-    private String secret;
-
-    @Value("${jwt.expiration-ms}") //take from application.properties
-    private long expirationMs;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes()); //get the secret key in the form of bytes and create a key for signing the token
+    private final long expirationMs;
+    // Key and parser are immutable and thread safe - build them once, not per token
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret, //take from application.properties
+                   @Value("${jwt.expiration-ms}") long expirationMs) { //take from application.properties
+        this.expirationMs = expirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes()); //get the secret key in the form of bytes and create a key for signing the token
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(Long userId, Integer roleId) {
@@ -28,7 +33,7 @@ public class JwtUtil {
                 .claim("roleId", roleId) //set the roleId of the token
                 .issuedAt(new Date()) //set the issuedAt of the token
                 .expiration(new Date(System.currentTimeMillis() + expirationMs)) //set the expiration of the token
-                .signWith(getSigningKey()) //sign the token
+                .signWith(signingKey) //sign the token
                 .compact(); //compact the token
     }
 
@@ -42,11 +47,10 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Verify the signature and expiry and return the claims - throws a JwtException otherwise
+     */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.jobtracking.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.cache.BoundedCache;
+import com.jobtracking.common.utils.RoleMapper;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies bearer tokens and caches the resulting principal per token
+ * The cache is keyed by the token's SHA-256, so raw tokens are never kept in memory, and bounded by
+ * entry count. A cached principal is only returned before its token expires; after that the token
+ * is verified again, which fails. Repeat requests therefore skip the signature check and claims parsing.
+ * Metrics: cache.gets (result=hit|miss), cache.evictions, cache.size - tagged cache=jwt.principals
+ */
+@Component
+public class JwtVerifier {
+
+    // Rough heap size of a key plus principal
+    private static final long ENTRY_WEIGHT = 256;
+
+    private final JwtUtil jwtUtil;
+    private final BoundedCache<TokenDigest, JwtPrincipal> principals;
+
+    /**
+     * SHA-256 of a token as four longs - cheaper to hash and compare than the token itself
+     */
+    private record TokenDigest(long a, long b, long c, long d) {
+    }
+
+    public JwtVerifier(JwtUtil jwtUtil, MeterRegistry meterRegistry,
+                       @Value("${app.security.jwt-cache.max-entries:50000}") int maxEntries) {
+        this.jwtUtil = jwtUtil;
+        this.principals = new BoundedCache<>(maxEntries, maxEntries * ENTRY_WEIGHT, principal -> ENTRY_WEIGHT);
+        registerMetrics(meterRegistry);
+    }
+
+    /**
+     * Principal of a valid, unexpired token - throws a JwtException or IllegalArgumentException otherwise
+     */
+    public JwtPrincipal verify(String token) {
+        TokenDigest key = digest(token);
+        JwtPrincipal principal = principals.get(key, digest -> parse(token));
+        if (principal.expiresAtMillis() <= System.currentTimeMillis()) {
+            principals.invalidate(key);
+            return parse(token); // Expired since it was cached - rejected by the parser
+        }
+        return principal;
+    }
+
+    private JwtPrincipal parse(String token) {
+        Claims claims = jwtUtil.extractClaims(token);
+        Long userId = Long.parseLong(claims.getSubject());
+        String role = RoleMapper.mapRoleIdToRoleName(claims.get("roleId", Integer.class));
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(userId, role, List.of(new SimpleGrantedAuthority("ROLE_" + role)),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    private static TokenDigest digest(String token) {
+        try {
+            ByteBuffer hash = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        String name = "jwt.principals";
+        FunctionCounter.builder("cache.gets", principals, BoundedCache::hitCount)
+                .tag("cache", name).tag("result", "hit")
+                .description("Cache lookups that found a value")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", principals, BoundedCache::missCount)
+                .tag("cache", name).tag("result", "miss")
+                .description("Cache lookups that had to load the value")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", principals, BoundedCache::evictionCount)
+                .tag("cache", name)
+                .description("Entries evicted because of the size or weight bound")
+                .register(registry);
+        Gauge.builder("cache.size", principals, BoundedCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
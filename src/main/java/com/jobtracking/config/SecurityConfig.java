@@ -53,6 +53,7 @@ public class SecurityConfig {
                                                 .requestMatchers("/auth/register", "/auth/login").permitAll()
                                                 .requestMatchers("/auth/me").authenticated()
                                                 .requestMatchers(HttpMethod.GET, "/organizations").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/jobs/recommended").hasRole("JOB_SEEKER")
                                                 .requestMatchers(HttpMethod.GET, "/jobs", "/jobs/**").permitAll() // Allow public job browsing
                                                 .requestMatchers("/recruiter/jobs/**").hasRole("RECRUITER")
                                                 .requestMatchers("/jobs/**").hasRole("RECRUITER")
@@ -64,8 +65,14 @@ public class SecurityConfig {
                                                 .requestMatchers("/applications/me").hasRole("JOB_SEEKER")
                                                 .requestMatchers("/applications/my").hasRole("JOB_SEEKER")
                                                 .requestMatchers("/applications/check/**").hasRole("JOB_SEEKER")
+                                                .requestMatchers("/applications/submissions/**").hasRole("JOB_SEEKER")
                                                 .requestMatchers(HttpMethod.POST, "/applications/**")
                                                 .hasRole("JOB_SEEKER") // Job seekers can apply for jobs
+                                                .requestMatchers(HttpMethod.DELETE, "/applications/**")
+                                                .hasRole("JOB_SEEKER") // ...and withdraw their own applications
+                                                .requestMatchers(HttpMethod.POST, "/resumes").hasRole("JOB_SEEKER")
+                                                .requestMatchers("/resumes/**").authenticated()
+                                                .requestMatchers("/candidates/**").hasRole("RECRUITER")
                                                 .requestMatchers("/profile/jobseeker").hasRole("JOB_SEEKER")
                                                 .requestMatchers("/profile/recruiter").hasRole("RECRUITER")
                                                 .requestMatchers("/profile/**").authenticated()
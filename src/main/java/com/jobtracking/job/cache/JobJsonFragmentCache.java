@@ -0,0 +1,186 @@
+package com.jobtracking.job.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.job.dto.JobWithSkillsResponse;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.service.JobService;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
+
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Pre-rendered JSON for the public job listing
+ * Each job is serialized once into a byte array and re-rendered only when it changes.
+ * The listing is written by copying those fragments into the servlet output stream
+ * between a pre-encoded ApiResponse envelope, so a warm request allocates nothing per job.
+ * Fragments and envelope use the JsonMapper of the MVC message converter, so the body is the same
+ * as the one the regular listing path writes.
+ */
+@Component
+public class JobJsonFragmentCache {
+
+    public static final String LISTING_MESSAGE = "Jobs fetched successfully";
+
+    private final JsonMapper jsonMapper;
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+
+    private final byte[] listingPrefix;
+    private final byte[] listingSuffix;
+
+    private final Map<Long, Fragment> fragments = new ConcurrentHashMap<>();
+    private volatile long[] listingOrder;
+    private volatile Listing listing;
+    private long generation;
+
+    /**
+     * Rendered job plus its company, so a company rename can find the fragments to drop
+     */
+    private record Fragment(Long companyId, byte[] json) {
+    }
+
+    /**
+     * Ready-to-write listing body
+     */
+    private record Listing(byte[][] parts, long contentLength) {
+    }
+
+    public JobJsonFragmentCache(JsonMapper jsonMapper, JobRepository jobRepository, JobService jobService) {
+        this.jsonMapper = jsonMapper;
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+
+        // Split an empty listing at its data array - the fragments go in between
+        String envelope = jsonMapper.writeValueAsString(new ApiResponse<>(true, LISTING_MESSAGE, List.of()));
+        int data = envelope.indexOf("\"data\":[]");
+        if (data < 0) {
+            throw new IllegalStateException("Could not encode listing envelope: " + envelope);
+        }
+        int split = data + "\"data\":[".length();
+        this.listingPrefix = envelope.substring(0, split).getBytes(StandardCharsets.UTF_8);
+        this.listingSuffix = envelope.substring(split).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the full job listing as an ApiResponse body
+     */
+    public void writeListing(HttpServletResponse response) throws IOException {
+        Listing current = currentListing();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLengthLong(current.contentLength());
+
+        OutputStream out = response.getOutputStream();
+        out.write(listingPrefix);
+        byte[][] parts = current.parts();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(parts[i]);
+        }
+        out.write(listingSuffix);
+        out.flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (this) {
+            generation++;
+            event.jobIds().forEach(fragments::remove);
+            // Only these change which jobs are listed; updates keep their position
+            switch (event.type()) {
+                case CREATED, DELETED, RESTORED -> listingOrder = null;
+                default -> {
+                }
+            }
+            listing = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        if (event.type() != OrganizationChangedEvent.ChangeType.RENAMED) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            fragments.values().removeIf(fragment -> event.organizationId().equals(fragment.companyId()));
+            listing = null;
+        }
+    }
+
+    private Listing currentListing() {
+        Listing current = listing;
+        if (current != null) {
+            return current;
+        }
+
+        long buildGeneration;
+        long[] order;
+        synchronized (this) {
+            buildGeneration = generation;
+            order = listingOrder;
+        }
+        if (order == null) {
+            order = jobRepository.findListingIds().stream().mapToLong(Long::longValue).toArray();
+        }
+
+        // Render only the jobs that have no fragment yet
+        List<Long> missing = new ArrayList<>();
+        for (long id : order) {
+            if (!fragments.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        Map<Long, Fragment> rendered = new HashMap<>();
+        for (JobWithSkillsResponse job : jobService.getJobsWithSkillsByIds(missing)) {
+            rendered.put(job.getId(), render(job));
+        }
+
+        List<byte[]> parts = new ArrayList<>(order.length);
+        long contentLength = listingPrefix.length + listingSuffix.length;
+        for (long id : order) {
+            Fragment fragment = rendered.containsKey(id) ? rendered.get(id) : fragments.get(id);
+            if (fragment == null) {
+                continue; // Deleted since the order was read
+            }
+            if (!parts.isEmpty()) {
+                contentLength++;
+            }
+            parts.add(fragment.json());
+            contentLength += fragment.json().length;
+        }
+        Listing built = new Listing(parts.toArray(new byte[0][]), contentLength);
+
+        // Keep what we built only if nothing changed meanwhile
+        synchronized (this) {
+            if (generation == buildGeneration) {
+                fragments.putAll(rendered);
+                listingOrder = order;
+                listing = built;
+            }
+        }
+        return built;
+    }
+
+    private Fragment render(JobWithSkillsResponse job) {
+        return new Fragment(job.getCompanyId(), jsonMapper.writeValueAsBytes(job));
+    }
+}
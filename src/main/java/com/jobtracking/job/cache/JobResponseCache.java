@@ -0,0 +1,127 @@
+package com.jobtracking.job.cache;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.common.cache.BoundedCache;
+import com.jobtracking.job.dto.JobWithSkillsResponse;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of mapped job responses for the public job endpoints
+ * Job details are cached per job ID, the full listing as a single entry.
+ * Entries are dropped after job writes and company renames commit.
+ * Metrics: cache.gets (result=hit|miss), cache.evictions, cache.size, cache.weight - tagged cache=jobs.detail|jobs.list
+ */
+@Component
+public class JobResponseCache {
+
+    private static final String ALL_JOBS = "all";
+
+    private final BoundedCache<Long, JobWithSkillsResponse> details;
+    private final BoundedCache<String, List<JobWithSkillsResponse>> listings;
+
+    public JobResponseCache(MeterRegistry meterRegistry,
+                            @Value("${app.cache.jobs.max-entries:10000}") int maxEntries,
+                            @Value("${app.cache.jobs.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.details = new BoundedCache<>(maxEntries, maxWeightBytes, JobResponseCache::weigh);
+        // Listings hold every job, so they get the same weight budget but only a few entries
+        this.listings = new BoundedCache<>(4, maxWeightBytes,
+                jobs -> jobs.stream().mapToLong(JobResponseCache::weigh).sum());
+
+        registerMetrics(meterRegistry, "jobs.detail", details);
+        registerMetrics(meterRegistry, "jobs.list", listings);
+    }
+
+    public JobWithSkillsResponse getJob(Long jobId, Supplier<JobWithSkillsResponse> loader) {
+        return details.get(jobId, id -> loader.get());
+    }
+
+    /**
+     * Cached job or null - for batch lookups that load the misses together
+     */
+    public JobWithSkillsResponse getJobIfPresent(Long jobId) {
+        return details.getIfPresent(jobId);
+    }
+
+    public long detailGeneration() {
+        return details.generation();
+    }
+
+    public void putJob(JobWithSkillsResponse job, long loadGeneration) {
+        details.putIfGeneration(job.getId(), job, loadGeneration);
+    }
+
+    public List<JobWithSkillsResponse> getAllJobs(Supplier<List<JobWithSkillsResponse>> loader) {
+        return listings.get(ALL_JOBS, key -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        details.invalidateAll(event.jobIds());
+        listings.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        // Only the company name is part of a job response
+        if (event.type() != OrganizationChangedEvent.ChangeType.RENAMED) {
+            return;
+        }
+        details.invalidateIf(job -> event.organizationId().equals(job.getCompanyId()));
+        listings.invalidateAll();
+    }
+
+    /**
+     * Rough heap size of a job response - strings are UTF-16
+     */
+    private static long weigh(JobWithSkillsResponse job) {
+        long weight = 256;
+        weight += 2L * length(job.getTitle());
+        weight += 2L * length(job.getDescription());
+        weight += 2L * length(job.getLocation());
+        weight += 2L * length(job.getJobType());
+        weight += 2L * length(job.getCompanyName());
+        if (job.getSkills() != null) {
+            for (JobWithSkillsResponse.SkillInfo skill : job.getSkills()) {
+                weight += 64 + 2L * length(skill.getName());
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static void registerMetrics(MeterRegistry registry, String name, BoundedCache<?, ?> cache) {
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::hitCount)
+                .tag("cache", name).tag("result", "hit")
+                .description("Cache lookups that found a value")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::missCount)
+                .tag("cache", name).tag("result", "miss")
+                .description("Cache lookups that had to load the value")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedCache::evictionCount)
+                .tag("cache", name)
+                .description("Entries evicted because of the size or weight bound")
+                .register(registry);
+        Gauge.builder("cache.size", cache, BoundedCache::size)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.weight", cache, BoundedCache::weight)
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
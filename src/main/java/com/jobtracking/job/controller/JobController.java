@@ -1,21 +1,40 @@
 package com.jobtracking.job.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jobtracking.common.controller.BaseController;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.common.service.ResourceVersionService;
+import com.jobtracking.common.utils.CursorUtil;
 import com.jobtracking.common.response.ApiResponse;
 import com.jobtracking.common.utils.AuthorizationUtil;
 import com.jobtracking.common.utils.ResponseUtil;
+import com.jobtracking.job.cache.JobJsonFragmentCache;
+import com.jobtracking.job.dto.BulkImportResult;
+import com.jobtracking.job.dto.JobFacetQuery;
+import com.jobtracking.job.dto.JobFacetResponse;
+import com.jobtracking.job.dto.JobRecommendation;
+import com.jobtracking.job.dto.JobSearchResult;
 import com.jobtracking.job.dto.JobWithSkillsResponse;
 import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.search.JobFacetIndex;
+import com.jobtracking.job.search.JobSearchIndex;
+import com.jobtracking.job.service.JobBulkImportService;
 import com.jobtracking.job.service.JobService;
 import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.repository.RecruiterProfileRepository;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/jobs")
 public class JobController extends BaseController {
@@ -23,64 +42,73 @@ public class JobController extends BaseController {
     private final JobService jobService;
     private final AuthorizationUtil authorizationUtil;
     private final RecruiterProfileRepository recruiterProfileRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobJsonFragmentCache jobJsonFragmentCache;
+    private final boolean prerenderedListing;
+    private final ResourceVersionService resourceVersionService;
+    private final JobBulkImportService jobBulkImportService;
 
     public JobController(JobService jobService, AuthorizationUtil authorizationUtil, 
-                        RecruiterProfileRepository recruiterProfileRepository) {
+                        RecruiterProfileRepository recruiterProfileRepository,
+                        JobSearchIndex jobSearchIndex, JobFacetIndex jobFacetIndex,
+                        JobJsonFragmentCache jobJsonFragmentCache,
+                        @Value("${app.jobs.prerendered-listing:false}") boolean prerenderedListing,
+                        ResourceVersionService resourceVersionService,
+                        JobBulkImportService jobBulkImportService) {
         this.jobService = jobService;
         this.authorizationUtil = authorizationUtil;
         this.recruiterProfileRepository = recruiterProfileRepository;
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobFacetIndex = jobFacetIndex;
+        this.jobJsonFragmentCache = jobJsonFragmentCache;
+        this.prerenderedListing = prerenderedListing;
+        this.resourceVersionService = resourceVersionService;
+        this.jobBulkImportService = jobBulkImportService;
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<JobWithSkillsResponse>> createJob(
             @RequestBody Job job,
             @RequestParam(required = false) List<Long> skillIds) {
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
 
-        try {
-            Long recruiterId = getCurrentUserId();
-            if (recruiterId == null) {
-                return ResponseUtil.unauthorized("User not authenticated");
-            }
-
-            // Get recruiter profile
-            RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiterId)
-                .orElse(null);
-
-            if (recruiterProfile == null) {
-                return ResponseUtil.error("Recruiter profile not found. Please create a company first to set up your recruiter profile.");
-            }
-
-            if (recruiterProfile.getCompany() == null) {
-                return ResponseUtil.error("No company associated with your profile. Please create or join a company before posting jobs.");
-            }
-
-            // Set recruiter and company from recruiter profile
-            job.setRecruiter(recruiterProfile);
-            job.setCompany(recruiterProfile.getCompany());
-
-            // Check company verification status
-            Long companyId = recruiterProfile.getCompany().getId();
-            if (!recruiterProfile.getCompany().getVerified()) {
-                return ResponseUtil.error("Your company '" + recruiterProfile.getCompany().getName() + "' is not yet verified. Please contact admin for company verification before posting jobs.");
-            }
-
-            // Use centralized authorization utility for ownership check
-            if (!authorizationUtil.isRecruiterAuthorizedForOrganization(recruiterId, companyId)) {
-                return ResponseUtil.forbidden("You are not authorized to post jobs for this company. Please ensure you own this company and it is verified.");
-            }
+        // Authorization, insert and response all come from one loaded recruiter profile
+        JobWithSkillsResponse response = jobService.createJobForRecruiter(recruiterId, job, skillIds);
+        return ResponseUtil.success(response, "Job created successfully", HttpStatus.CREATED);
+    }
 
-            if (skillIds == null) {
-                skillIds = List.of();
-            }
+    /**
+     * Bulk job import for the recruiter's company from a CSV (with header) or NDJSON request body
+     * Valid rows are imported, invalid rows are reported with their line number.
+     */
+    @PostMapping(value = "/bulk", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ApiResponse<BulkImportResult>> importJobs(HttpServletRequest request) throws IOException {
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
 
-            Job savedJob = jobService.createJob(job, skillIds);
-            JobWithSkillsResponse response = jobService.getJobWithSkillsById(savedJob.getId());
+        RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiterId)
+            .orElse(null);
+        if (recruiterProfile == null || recruiterProfile.getCompany() == null) {
+            return ResponseUtil.error("No company associated with your profile. Please create or join a company before posting jobs.");
+        }
 
-            return ResponseUtil.success(response, "Job created successfully", HttpStatus.CREATED);
-                    
-        } catch (Exception e) {
-            return ResponseUtil.internalError("Error creating job: " + e.getMessage());
+        Long companyId = recruiterProfile.getCompany().getId();
+        if (!authorizationUtil.isRecruiterAuthorizedForOrganization(recruiterId, companyId)) {
+            return ResponseUtil.forbidden("You are not authorized to post jobs for this company. Please ensure you own this company and it is verified.");
         }
+
+        JobBulkImportService.Format format = request.getContentType().toLowerCase(Locale.ROOT).startsWith("text/csv")
+                ? JobBulkImportService.Format.CSV
+                : JobBulkImportService.Format.NDJSON;
+        BulkImportResult result = jobBulkImportService.importJobs(request.getInputStream(), format,
+                recruiterProfile.getId(), companyId, recruiterId);
+        return ResponseUtil.success(result, "Imported " + result.imported() + " jobs, " + result.failed() + " rows failed");
     }
 
     @PutMapping("/{id}")
@@ -88,62 +116,109 @@ public class JobController extends BaseController {
             @PathVariable Long id,
             @RequestBody Job job,
             @RequestParam(required = false) List<Long> skillIds) {
-
-        try {
-            Long recruiterId = getCurrentUserId();
-            if (recruiterId == null) {
-                return ResponseUtil.unauthorized("User not authenticated");
-            }
-
-            // Get recruiter profile
-            RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiterId)
-                .orElse(null);
-
-            if (recruiterProfile == null) {
-                return ResponseUtil.error("Recruiter profile not found. Please create a company first to set up your recruiter profile.");
-            }
-
-            if (recruiterProfile.getCompany() == null) {
-                return ResponseUtil.error("No company associated with your profile. Please create or join a company before updating jobs.");
-            }
-
-            // Check company verification status
-            Long companyId = recruiterProfile.getCompany().getId();
-            if (!recruiterProfile.getCompany().getVerified()) {
-                return ResponseUtil.error("Your company '" + recruiterProfile.getCompany().getName() + "' is not yet verified. Please contact admin for company verification before updating jobs.");
-            }
-
-            // Use centralized authorization utility for ownership check
-            if (!authorizationUtil.isRecruiterAuthorizedForOrganization(recruiterId, companyId)) {
-                return ResponseUtil.forbidden("You are not authorized to update jobs for this company. Please ensure you own this company and it is verified.");
-            }
-
-            if (skillIds == null) {
-                skillIds = List.of();
-            }
-
-            Job updatedJob = jobService.updateJob(id, job, skillIds);
-            JobWithSkillsResponse response = jobService.getJobWithSkillsById(updatedJob.getId());
-
-            return ResponseUtil.success(response, "Job updated successfully");
-        } catch (Exception e) {
-            return ResponseUtil.internalError("Error updating job: " + e.getMessage());
+        Long recruiterId = getCurrentUserId();
+        if (recruiterId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
         }
+
+        // Authorization, update and response all come from one loaded job
+        JobWithSkillsResponse response = jobService.updateJobForRecruiter(recruiterId, id, job, skillIds);
+        return ResponseUtil.success(response, "Job updated successfully");
     }
 
+    /**
+     * List jobs - pass cursor and/or size to get one keyset page instead of the full catalog
+     * With app.jobs.prerendered-listing the full catalog is written from cached JSON fragments
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<JobWithSkillsResponse>>> getAllJobs() {
+    public ResponseEntity<?> getAllJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
         try {
+            // Answer repeat visitors with 304 before touching the data
+            ResourceVersionService.Tag tag = resourceVersionService.tag(
+                    ResourceVersionService.JOBS, ResourceVersionService.COMPANY_NAMES);
+            if (webRequest.checkNotModified(tag.etag(), tag.lastModified())) {
+                return null;
+            }
+            if (cursor != null || size != null) {
+                return ResponseUtil.success(jobService.getJobsPage(cursor, size), "Jobs fetched successfully");
+            }
+            if (prerenderedListing) {
+                jobJsonFragmentCache.writeListing(servletResponse);
+                return null; // Body already written
+            }
             List<JobWithSkillsResponse> jobs = jobService.getAllJobsWithSkills();
             return ResponseUtil.success(jobs, "Jobs fetched successfully");
+        } catch (ValidationException e) {
+            throw e; // Bad cursor or page size - handled by GlobalExceptionHandler
         } catch (Exception e) {
             return ResponseUtil.internalError("Error fetching jobs: " + e.getMessage());
         }
     }
 
+    /**
+     * Full-text search over active jobs, ranked by relevance
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<JobSearchResult>>> searchJobs(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size) {
+        List<JobSearchResult> results = jobSearchIndex.search(q, CursorUtil.pageSize(size));
+        return ResponseUtil.success(results, "Jobs fetched successfully");
+    }
+
+    /**
+     * Active jobs best matching the current job seeker's skills and experience
+     */
+    @GetMapping("/recommended")
+    public ResponseEntity<ApiResponse<List<JobRecommendation>>> getRecommendedJobs(
+            @RequestParam(required = false) Integer size) {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+        return ResponseUtil.success(jobService.getRecommendedJobs(userId, size), "Recommended jobs fetched successfully");
+    }
+
+    /**
+     * Filter active jobs by salary, experience, type, location, company and skills, with facet counts
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<JobFacetResponse>> filterJobs(
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(required = false) Integer minExperience,
+            @RequestParam(required = false) Integer maxExperience,
+            @RequestParam(required = false) List<String> jobType,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(required = false) List<Long> companyId,
+            @RequestParam(required = false) List<Long> skillIds,
+            @RequestParam(defaultValue = "any") String skillMatch,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        int pageSize = CursorUtil.pageSize(size);
+        JobFacetQuery query = new JobFacetQuery(minSalary, maxSalary, minExperience, maxExperience,
+                jobType, location, companyId, skillIds, "all".equalsIgnoreCase(skillMatch));
+
+        // In long so a huge page cannot overflow into a negative offset - past the end is just an empty page
+        long offset = (long) Math.max(0, page) * pageSize;
+        JobFacetIndex.FacetResult result = jobFacetIndex.filter(query, (int) Math.min(offset, Integer.MAX_VALUE), pageSize);
+        List<JobWithSkillsResponse> jobs = jobService.getJobsWithSkillsByIds(result.jobIds());
+        return ResponseUtil.success(new JobFacetResponse(result.total(), jobs, result.facets()),
+                "Jobs fetched successfully");
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<JobWithSkillsResponse>> getJob(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<JobWithSkillsResponse>> getJob(@PathVariable Long id, WebRequest webRequest) {
         try {
+            ResourceVersionService.Tag tag = resourceVersionService.tag(
+                    ResourceVersionService.job(id), ResourceVersionService.COMPANY_NAMES);
+            if (webRequest.checkNotModified(tag.etag(), tag.lastModified())) {
+                return null;
+            }
             JobWithSkillsResponse job = jobService.getJobWithSkillsById(id);
             return ResponseUtil.success(job, "Job fetched successfully");
         } catch (Exception e) {
@@ -0,0 +1,13 @@
+package com.jobtracking.job.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk job import - failed rows are reported with their line number
+ * Only the first errors are listed; {@code failed} always has the full count.
+ */
+public record BulkImportResult(int imported, int failed, List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
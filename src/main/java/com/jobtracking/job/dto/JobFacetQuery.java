@@ -0,0 +1,20 @@
+package com.jobtracking.job.dto;
+
+import java.util.List;
+
+/**
+ * Filters for faceted job search
+ * Values inside one list are OR-ed, different filters are AND-ed.
+ * Skills are OR-ed by default, or AND-ed when matchAllSkills is true.
+ */
+public record JobFacetQuery(
+        Double minSalary,
+        Double maxSalary,
+        Integer minExperience,
+        Integer maxExperience,
+        List<String> jobTypes,
+        List<String> locations,
+        List<Long> companyIds,
+        List<Long> skillIds,
+        boolean matchAllSkills) {
+}
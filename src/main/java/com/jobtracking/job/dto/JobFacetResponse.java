@@ -0,0 +1,14 @@
+package com.jobtracking.job.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtered jobs plus how many matching jobs fall under each facet value
+ * facets: facet name (jobType, location, company, skill) -> value -> count
+ */
+public record JobFacetResponse(
+        int total,
+        List<JobWithSkillsResponse> jobs,
+        Map<String, Map<String, Integer>> facets) {
+}
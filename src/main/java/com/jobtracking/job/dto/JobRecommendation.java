@@ -0,0 +1,11 @@
+package com.jobtracking.job.dto;
+
+/**
+ * A recommended job with its match score and how many of its required skills the seeker has
+ */
+public record JobRecommendation(
+        JobWithSkillsResponse job,
+        double score,
+        int matchedSkills,
+        int requiredSkills) {
+}
@@ -0,0 +1,16 @@
+package com.jobtracking.job.dto;
+
+/**
+ * One ranked search hit
+ * highlightedTitle and snippet are HTML-escaped with matches wrapped in &lt;em&gt; tags
+ */
+public record JobSearchResult(
+        Long id,
+        String title,
+        String companyName,
+        String location,
+        String jobType,
+        double score,
+        String highlightedTitle,
+        String snippet) {
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.entity.Skill;
 import com.jobtracking.organization.entity.Organization;
@@ -13,7 +15,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    // Covers the keyset pagination order of the public job listing
+    @Index(name = "idx_jobs_listing", columnList = "deleted_at, posted_at, created_at, id")
+})
 @Getter
 @Setter
 public class Job extends SoftDeleteEntity {
@@ -64,7 +69,14 @@ public class Job extends SoftDeleteEntity {
     @Column(columnDefinition = "json")
     private String extension;
 
+    // Optimistic locking - concurrent writers fail instead of silently overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     // Many-to-Many relationship with Skills through job_skills table
+    // Not version-checked: a skills-only edit rewrites the join rows without also updating the job row
+    @OptimisticLock(excluded = true)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "job_skills", 
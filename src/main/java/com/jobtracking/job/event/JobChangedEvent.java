@@ -0,0 +1,28 @@
+package com.jobtracking.job.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published after jobs are written so in-memory indexes and caches can catch up
+ * Listeners receive it once the surrounding transaction has committed
+ */
+public record JobChangedEvent(List<Long> jobIds, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESTORED,
+        ACTIVATED,
+        DEACTIVATED
+    }
+
+    public static JobChangedEvent of(Long jobId, ChangeType type) {
+        return new JobChangedEvent(List.of(jobId), type);
+    }
+
+    public static JobChangedEvent of(Collection<Long> jobIds, ChangeType type) {
+        return new JobChangedEvent(List.copyOf(jobIds), type);
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobtracking.job.expiry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.search.JobIndex;
+
+/**
+ * Deadlines of active jobs ordered by time, loaded at startup like every other {@link JobIndex}
+ * The scheduler only looks at the head of the queue, so checking for expired jobs never scans the table.
+ */
+@Component
+public class JobExpiryQueue implements JobIndex {
+
+    private final TreeSet<Entry> queue = new TreeSet<>();
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+
+    private record Entry(LocalDateTime deadline, long jobId) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int byDeadline = deadline.compareTo(other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(jobId, other.jobId);
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Job job) {
+        removeInternal(job.getId());
+        if (job.getDeadline() != null) {
+            deadlines.put(job.getId(), job.getDeadline());
+            queue.add(new Entry(job.getDeadline(), job.getId()));
+        }
+    }
+
+    @Override
+    public synchronized void remove(Long jobId) {
+        removeInternal(jobId);
+    }
+
+    /**
+     * Up to {@code limit} jobs whose deadline is at or before {@code now}, earliest first
+     * Jobs stay queued until their deactivation (or any other change) comes back as a job event.
+     */
+    public synchronized List<Long> due(LocalDateTime now, int limit) {
+        List<Long> due = new ArrayList<>();
+        for (Entry entry : queue) {
+            if (entry.deadline().isAfter(now) || due.size() == limit) {
+                break;
+            }
+            due.add(entry.jobId());
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void removeInternal(Long jobId) {
+        LocalDateTime deadline = deadlines.remove(jobId);
+        if (deadline != null) {
+            queue.remove(new Entry(deadline, jobId));
+        }
+    }
+}
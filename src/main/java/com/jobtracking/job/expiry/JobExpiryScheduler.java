@@ -0,0 +1,57 @@
+package com.jobtracking.job.expiry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically deactivates jobs whose deadline has passed
+ * Due jobs come from the in-memory {@link JobExpiryQueue}; each batch is one guarded UPDATE.
+ */
+@Component
+public class JobExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExpiryScheduler.class);
+
+    private final JobExpiryQueue jobExpiryQueue;
+    private final JobExpiryService jobExpiryService;
+    private final int batchSize;
+
+    public JobExpiryScheduler(JobExpiryQueue jobExpiryQueue, JobExpiryService jobExpiryService,
+                              @Value("${app.jobs.expiry.batch-size:500}") int batchSize) {
+        this.jobExpiryQueue = jobExpiryQueue;
+        this.jobExpiryService = jobExpiryService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${app.jobs.expiry.check-interval-ms:60000}",
+            fixedDelayString = "${app.jobs.expiry.check-interval-ms:60000}")
+    public void expireDueJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        try {
+            while (true) {
+                List<Long> due = jobExpiryQueue.due(now, batchSize);
+                if (due.isEmpty()) {
+                    break;
+                }
+                int expired = jobExpiryService.expire(due, now);
+                total += expired;
+                // Nothing left for this node (e.g. another node holds the rows) - try again next run
+                if (expired == 0 || due.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Failed to expire jobs past their deadline: {}", e.getMessage());
+        }
+        if (total > 0) {
+            logger.info("Deactivated {} jobs past their deadline", total);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobtracking.job.expiry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.job.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Deactivates jobs past their deadline, one batch per transaction
+ */
+@Service
+@RequiredArgsConstructor
+public class JobExpiryService {
+
+    private final JobRepository jobRepository;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Deactivate the given due jobs that are still active and return how many were deactivated
+     * Rows are locked with SKIP LOCKED, so when several nodes expire the same batch each job
+     * is deactivated and audited exactly once.
+     */
+    @Transactional
+    public int expire(List<Long> dueJobIds, LocalDateTime now) {
+        List<Long> expired = jobRepository.lockExpiredJobIds(dueJobIds, now);
+        if (!expired.isEmpty()) {
+            jobRepository.deactivateByIdIn(expired, now);
+            auditLogService.log("JOB", null, "EXPIRED", null,
+                    "Deactivated " + expired.size() + " jobs past their deadline: " + expired);
+            eventPublisher.publishEvent(JobChangedEvent.of(expired, JobChangedEvent.ChangeType.DEACTIVATED));
+        }
+
+        // The rest were changed elsewhere (another node, a new deadline, a delete) - reload them
+        List<Long> others = new ArrayList<>(dueJobIds);
+        others.removeAll(expired);
+        if (!others.isEmpty()) {
+            eventPublisher.publishEvent(JobChangedEvent.of(others, JobChangedEvent.ChangeType.UPDATED));
+        }
+        return expired.size();
+    }
+}
@@ -1,22 +1,44 @@
 package com.jobtracking.job.mapper;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import com.jobtracking.common.mapper.BaseMapper;
+import com.jobtracking.common.service.EntityLoaders;
 import com.jobtracking.job.dto.JobWithSkillsResponse;
 import com.jobtracking.job.entity.Job;
+import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.entity.Skill;
 
+import lombok.RequiredArgsConstructor;
+
 /**
  * Simple Job mapper - easy to understand for freshers
  * No complex patterns, just straightforward mapping
  */
 @Component
+@RequiredArgsConstructor
 public class JobMapper extends BaseMapper {
 
+    private final EntityLoaders entityLoaders;
+
+    /**
+     * Queue the recruiters of jobs about to be mapped, so the first toDTO call
+     * resolves all their user IDs in one query instead of loading each recruiter
+     */
+    public void prefetch(Collection<Job> jobs) {
+        for (Job job : jobs) {
+            RecruiterProfile recruiter = job.getRecruiter();
+            if (recruiter != null && !Hibernate.isInitialized(recruiter)) {
+                entityLoaders.recruiterUserIds().queue(recruiter.getId());
+            }
+        }
+    }
+
     /**
      * Convert Job entity to DTO
      */
@@ -48,7 +70,7 @@ public class JobMapper extends BaseMapper {
         dto.setJobType(job.getJobType());
         dto.setCompanyId(job.getCompany() != null ? job.getCompany().getId() : null);
         dto.setCompanyName(companyName);
-        dto.setRecruiterUserId(job.getRecruiter() != null && job.getRecruiter().getUser() != null ? job.getRecruiter().getUser().getId() : null);
+        dto.setRecruiterUserId(recruiterUserId(job.getRecruiter()));
         dto.setIsActive(job.getIsActive());
         dto.setPostedAt(job.getPostedAt());
         dto.setDeadline(job.getDeadline());
@@ -128,6 +150,7 @@ public class JobMapper extends BaseMapper {
 
         // Create result list
         List<JobWithSkillsResponse> dtoList = new ArrayList<>();
+        prefetch(jobs);
         
         // Loop through each job and convert
         for (Job job : jobs) {
@@ -140,6 +163,19 @@ public class JobMapper extends BaseMapper {
         return dtoList;
     }
 
+    /**
+     * User ID of the recruiter - read from the entity when it is loaded, otherwise from the batch loader
+     */
+    private Long recruiterUserId(RecruiterProfile recruiter) {
+        if (recruiter == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(recruiter)) {
+            return recruiter.getUser() != null ? recruiter.getUser().getId() : null;
+        }
+        return entityLoaders.recruiterUserIds().get(recruiter.getId());
+    }
+
     /**
      * Map skills from entity to DTO - simple approach
      */
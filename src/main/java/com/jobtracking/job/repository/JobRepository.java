@@ -1,9 +1,13 @@
 package com.jobtracking.job.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -52,4 +56,68 @@ public interface JobRepository extends SoftDeleteRepository<Job> {
     // Count jobs by company ID (excluding soft-deleted)
     @Query("SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId AND j.deletedAt IS NULL")
     long countByCompanyIdAndDeletedAtIsNull(@Param("companyId") Long companyId);
-}
\ No newline at end of file
+
+    // First page of job IDs for keyset pagination - Latest first, id as tie breaker
+    @Query("SELECT j.id FROM Job j WHERE j.deletedAt IS NULL ORDER BY j.postedAt DESC, j.createdAt DESC, j.id DESC")
+    List<Long> findFirstPageIds(Pageable pageable);
+    
+    // Next page of job IDs strictly after the cursor position (postedAt, createdAt, id)
+    @Query("SELECT j.id FROM Job j WHERE j.deletedAt IS NULL AND (j.postedAt < :postedAt " +
+           "OR (j.postedAt = :postedAt AND j.createdAt < :createdAt) " +
+           "OR (j.postedAt = :postedAt AND j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.postedAt DESC, j.createdAt DESC, j.id DESC")
+    List<Long> findPageIdsAfter(@Param("postedAt") LocalDateTime postedAt,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+    
+    // Find jobs with skills by IDs (order is not guaranteed)
+    @EntityGraph(attributePaths = {"skills"})
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids")
+    List<Job> findAllWithSkillsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Active job IDs in ID order, used to load in-memory indexes in batches
+    @Query("SELECT j.id FROM Job j WHERE j.deletedAt IS NULL AND j.isActive = true AND j.id > :afterId ORDER BY j.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Find jobs with skills and company by IDs - everything the in-memory indexes need
+    @EntityGraph(attributePaths = {"skills", "company"})
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids")
+    List<Job> findAllForIndexByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Find job with its recruiter, company and skills in one query (job write path)
+    @Query("""
+        SELECT DISTINCT j FROM Job j
+        JOIN FETCH j.recruiter r
+        JOIN FETCH r.user
+        JOIN FETCH r.company
+        JOIN FETCH j.company
+        LEFT JOIN FETCH j.skills
+        WHERE j.id = :id AND j.deletedAt IS NULL
+    """)
+    Optional<Job> findForUpdateById(@Param("id") Long id);
+    
+    // Jobs with recruiter and recruiter user in one query (ownership checks)
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids")
+    List<Job> findAllWithRecruiterByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Skill IDs of the given jobs, one row per job/skill pair (reads job_skills by job_id only)
+    @Query("SELECT s.id FROM Job j JOIN j.skills s WHERE j.id IN :ids")
+    List<Long> findSkillIdsByJobIdIn(@Param("ids") Collection<Long> ids);
+    
+    // IDs of all non-deleted jobs in listing order - Latest first
+    @Query("SELECT j.id FROM Job j WHERE j.deletedAt IS NULL ORDER BY j.postedAt DESC, j.createdAt DESC, j.id DESC")
+    List<Long> findListingIds();
+    
+    // Lock the still-active jobs past their deadline - rows another node is expiring are skipped, not waited on
+    @Query(value = "SELECT id FROM jobs WHERE id IN (:ids) AND is_active = true AND deleted_at IS NULL "
+            + "AND expiry_date <= :now FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockExpiredJobIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Deactivate jobs in one statement (bulk update skips @PreUpdate, so updatedAt is set here)
+    @Modifying
+    @Query("UPDATE Job j SET j.isActive = false, j.updatedAt = :now, j.version = j.version + 1 " +
+           "WHERE j.id IN :ids AND j.isActive = true")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
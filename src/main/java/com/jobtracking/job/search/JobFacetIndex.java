@@ -0,0 +1,338 @@
+package com.jobtracking.job.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.search.CompactBitmap;
+import com.jobtracking.job.dto.JobFacetQuery;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.profile.entity.Skill;
+
+/**
+ * Bitmap index over the active job catalog for faceted filtering
+ * Every job gets a dense ordinal; each facet value keeps a compressed bitmap of ordinals.
+ * Filters become bitmap AND/OR operations and facet counts become intersection cardinalities.
+ * Salary and experience ranges are checked against per-ordinal columns of the candidate set.
+ */
+@Component
+public class JobFacetIndex implements JobIndex {
+
+    private static final int FACET_VALUES_LIMIT = 20;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Ordered by job ID so a page can be read newest first without sorting the matches
+    private final NavigableMap<Long, Integer> ordinals = new TreeMap<>();
+    private long[] jobIds = new long[1024];
+    private JobFacets[] facetsByOrdinal = new JobFacets[1024];
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private int nextOrdinal;
+
+    private final CompactBitmap all = new CompactBitmap();
+    private final Map<String, CompactBitmap> byJobType = new HashMap<>();
+    private final Map<String, CompactBitmap> byLocation = new HashMap<>();
+    private final Map<Long, CompactBitmap> byCompany = new HashMap<>();
+    private final Map<Long, CompactBitmap> bySkill = new HashMap<>();
+
+    /**
+     * Facet values of one indexed job - kept so removal knows which bitmaps to touch
+     */
+    private record JobFacets(String jobType, String location, Long companyId, long[] skillIds,
+                             Double minSalary, Double maxSalary, Integer minExperience, Integer maxExperience) {
+    }
+
+    /**
+     * One page of matching job IDs (newest first) with facet counts over all matches
+     */
+    public record FacetResult(int total, List<Long> jobIds, Map<String, Map<String, Integer>> facets) {
+    }
+
+    @Override
+    public void upsert(Job job) {
+        long[] skillIds = job.getSkills() == null ? new long[0] : job.getSkills().stream()
+                .map(Skill::getId)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+        JobFacets facets = new JobFacets(
+                normalize(job.getJobType()),
+                normalize(job.getLocation()),
+                job.getCompany() != null ? job.getCompany().getId() : null,
+                skillIds,
+                job.getMinSalary(),
+                job.getMaxSalary(),
+                job.getMinExperience(),
+                job.getMaxExperience());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            int ordinal = allocateOrdinal();
+            ordinals.put(job.getId(), ordinal);
+            jobIds[ordinal] = job.getId();
+            facetsByOrdinal[ordinal] = facets;
+
+            all.add(ordinal);
+            addTo(byJobType, facets.jobType(), ordinal);
+            addTo(byLocation, facets.location(), ordinal);
+            addTo(byCompany, facets.companyId(), ordinal);
+            for (long skillId : skillIds) {
+                addTo(bySkill, skillId, ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the job is currently active (not deleted and not deactivated)
+     */
+    public boolean contains(Long jobId) {
+        lock.readLock().lock();
+        try {
+            return ordinals.containsKey(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply the filters and return one page of matches plus facet counts
+     */
+    public FacetResult filter(JobFacetQuery query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            CompactBitmap result = all;
+            result = intersect(result, union(byJobType, normalizeAll(query.jobTypes())));
+            result = intersect(result, union(byLocation, normalizeAll(query.locations())));
+            result = intersect(result, union(byCompany, query.companyIds()));
+            if (query.skillIds() != null && !query.skillIds().isEmpty()) {
+                if (query.matchAllSkills()) {
+                    for (Long skillId : query.skillIds()) {
+                        result = result.and(bySkill.getOrDefault(skillId, new CompactBitmap()));
+                    }
+                } else {
+                    result = result.and(union(bySkill, query.skillIds()));
+                }
+            }
+            result = applyRanges(result, query);
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("jobType", countFacet(byJobType, result, Function.identity()));
+            facets.put("location", countFacet(byLocation, result, Function.identity()));
+            facets.put("company", countFacet(byCompany, result, String::valueOf));
+            facets.put("skill", countFacet(bySkill, result, String::valueOf));
+
+            return new FacetResult(result.cardinality(), page(result, offset, limit), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keep candidates whose salary/experience ranges overlap the requested ones
+     * Jobs without a salary never match a salary filter; a missing minimum experience counts as 0
+     * and a missing maximum experience means no upper bound
+     */
+    private CompactBitmap applyRanges(CompactBitmap candidates, JobFacetQuery query) {
+        if (query.minSalary() == null && query.maxSalary() == null
+                && query.minExperience() == null && query.maxExperience() == null) {
+            return candidates;
+        }
+        CompactBitmap matched = new CompactBitmap();
+        candidates.forEach(ordinal -> {
+            JobFacets facets = facetsByOrdinal[ordinal];
+            if (query.minSalary() != null && (facets.maxSalary() == null || facets.maxSalary() < query.minSalary())) {
+                return;
+            }
+            if (query.maxSalary() != null && (facets.minSalary() == null || facets.minSalary() > query.maxSalary())) {
+                return;
+            }
+            if (query.minExperience() != null && facets.maxExperience() != null
+                    && facets.maxExperience() < query.minExperience()) {
+                return;
+            }
+            if (query.maxExperience() != null
+                    && (facets.minExperience() != null ? facets.minExperience() : 0) > query.maxExperience()) {
+                return;
+            }
+            matched.add(ordinal);
+        });
+        return matched;
+    }
+
+    /**
+     * Matches {@code offset} to {@code offset + limit} in newest (highest ID) first order
+     * Dense results walk the catalog from the newest job and stop once the page is full; sparse ones
+     * keep only the newest {@code offset + limit} matches in a bounded heap instead of sorting them all.
+     */
+    private List<Long> page(CompactBitmap result, int offset, int limit) {
+        int total = result.cardinality();
+        if (limit <= 0 || offset >= total) {
+            return List.of();
+        }
+        int wanted = (int) Math.min((long) offset + limit, total);
+        List<Long> page = new ArrayList<>(wanted - offset);
+
+        // Expected catalog entries visited before the page is full
+        long expectedScan = (long) wanted * ordinals.size() / total;
+        if (expectedScan <= total) {
+            int seen = 0;
+            for (Map.Entry<Long, Integer> entry : ordinals.descendingMap().entrySet()) {
+                if (!result.contains(entry.getValue())) {
+                    continue;
+                }
+                if (seen++ >= offset) {
+                    page.add(entry.getKey());
+                    if (seen == wanted) {
+                        break;
+                    }
+                }
+            }
+            return page;
+        }
+
+        PriorityQueue<Long> newest = new PriorityQueue<>(wanted + 1);
+        result.forEach(ordinal -> {
+            long jobId = jobIds[ordinal];
+            if (newest.size() < wanted) {
+                newest.add(jobId);
+            } else if (jobId > newest.peek()) {
+                newest.poll();
+                newest.add(jobId);
+            }
+        });
+        long[] ids = new long[newest.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = newest.poll(); // Smallest first, so ids ends up newest first
+        }
+        for (int i = offset; i < ids.length; i++) {
+            page.add(ids[i]);
+        }
+        return page;
+    }
+
+    private <K> Map<String, Integer> countFacet(Map<K, CompactBitmap> bitmaps, CompactBitmap result,
+                                                Function<K, String> label) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (Map.Entry<K, CompactBitmap> entry : bitmaps.entrySet()) {
+            int count = entry.getValue().andCardinality(result);
+            if (count > 0) {
+                counts.add(Map.entry(label.apply(entry.getKey()), count));
+            }
+        }
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        Map<String, Integer> top = new LinkedHashMap<>();
+        for (int i = 0; i < counts.size() && i < FACET_VALUES_LIMIT; i++) {
+            top.put(counts.get(i).getKey(), counts.get(i).getValue());
+        }
+        return top;
+    }
+
+    /**
+     * OR of the bitmaps for the requested values, null when the filter is not used
+     */
+    private <K> CompactBitmap union(Map<K, CompactBitmap> bitmaps, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        CompactBitmap union = new CompactBitmap();
+        for (K value : values) {
+            CompactBitmap bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private CompactBitmap intersect(CompactBitmap result, CompactBitmap filter) {
+        return filter == null ? result : result.and(filter);
+    }
+
+    private void removeInternal(Long jobId) {
+        Integer ordinal = ordinals.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        JobFacets facets = facetsByOrdinal[ordinal];
+        all.remove(ordinal);
+        removeFrom(byJobType, facets.jobType(), ordinal);
+        removeFrom(byLocation, facets.location(), ordinal);
+        removeFrom(byCompany, facets.companyId(), ordinal);
+        for (long skillId : facets.skillIds()) {
+            removeFrom(bySkill, skillId, ordinal);
+        }
+        facetsByOrdinal[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    private int allocateOrdinal() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (nextOrdinal == jobIds.length) {
+            jobIds = Arrays.copyOf(jobIds, jobIds.length * 2);
+            facetsByOrdinal = Arrays.copyOf(facetsByOrdinal, facetsByOrdinal.length * 2);
+        }
+        return nextOrdinal++;
+    }
+
+    private <K> void addTo(Map<K, CompactBitmap> bitmaps, K key, int ordinal) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new CompactBitmap()).add(ordinal);
+        }
+    }
+
+    private <K> void removeFrom(Map<K, CompactBitmap> bitmaps, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        CompactBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private List<String> normalizeAll(List<String> values) {
+        return values == null ? null : values.stream().map(this::normalize).toList();
+    }
+
+    private String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobtracking.job.search;
+
+import com.jobtracking.job.entity.Job;
+
+/**
+ * An in-memory view over the active job catalog
+ * Kept in sync by {@link JobIndexUpdater} - implementations only need to handle single jobs
+ */
+public interface JobIndex {
+
+    /**
+     * Add or replace an active job (skills and company are loaded)
+     */
+    void upsert(Job job);
+
+    /**
+     * Drop a job that was deleted or deactivated
+     */
+    void remove(Long jobId);
+}
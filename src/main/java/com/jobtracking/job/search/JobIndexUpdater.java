@@ -0,0 +1,81 @@
+package com.jobtracking.job.search;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.job.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads the active job catalog into every {@link JobIndex} at startup
+ * and applies job changes after they are committed
+ */
+@Component
+@RequiredArgsConstructor
+public class JobIndexUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobIndexUpdater.class);
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final List<JobIndex> indexes;
+
+    /**
+     * Build all indexes from the database in ID order, one batch at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long lastId = 0;
+        int loaded = 0;
+        while (true) {
+            List<Long> ids = jobRepository.findActiveIdsAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (Job job : jobRepository.findAllForIndexByIdIn(ids)) {
+                indexes.forEach(index -> index.upsert(job));
+                loaded++;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        logger.info("Loaded {} active jobs into {} job indexes", loaded, indexes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        try {
+            if (event.type() == JobChangedEvent.ChangeType.DELETED
+                    || event.type() == JobChangedEvent.ChangeType.DEACTIVATED) {
+                event.jobIds().forEach(this::removeEverywhere);
+                return;
+            }
+
+            // Reload the committed state - the job may have been deactivated in the same write
+            List<Job> jobs = jobRepository.findAllForIndexByIdIn(event.jobIds());
+            for (Job job : jobs) {
+                if (job.getDeletedAt() == null && Boolean.TRUE.equals(job.getIsActive())) {
+                    indexes.forEach(index -> index.upsert(job));
+                } else {
+                    removeEverywhere(job.getId());
+                }
+            }
+        } catch (Exception e) {
+            // Never fail the write that triggered the event
+            logger.error("Failed to update job indexes for {}: {}", event, e.getMessage());
+        }
+    }
+
+    private void removeEverywhere(Long jobId) {
+        indexes.forEach(index -> index.remove(jobId));
+    }
+}
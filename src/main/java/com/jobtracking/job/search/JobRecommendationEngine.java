@@ -0,0 +1,219 @@
+package com.jobtracking.job.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.search.CompactBitmap;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.enums.Proficiency;
+
+/**
+ * In-memory job recommendations based on skill overlap
+ * Each active job gets a dense ordinal and each skill keeps a compressed bitmap of the jobs requiring it,
+ * so a seeker's skill set only touches the postings of skills they have - never the whole catalog.
+ * Scores come from {@link SkillMatchScorer}.
+ */
+@Component
+public class JobRecommendationEngine implements JobIndex {
+
+    private static final int NO_EXPERIENCE_BOUND = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<Long, CompactBitmap> bySkill = new HashMap<>();
+    private long[] jobIds = new long[1024];
+    private long[][] skillsByOrdinal = new long[1024][];
+    private int[] minExperience = new int[1024];
+    private int[] maxExperience = new int[1024];
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private int nextOrdinal;
+
+    /**
+     * A recommended job ID with its score and skill overlap
+     */
+    public record Match(long jobId, double score, int matchedSkills, int requiredSkills) {
+    }
+
+    /**
+     * Per-request score accumulator - an open-addressing table keyed by ordinal + 1 (0 marks an empty slot),
+     * sized to the postings of the seeker's skills rather than to the catalog
+     */
+    private static final class Accumulator {
+        final int[] keys;
+        final float[] weights;
+        final int[] matched;
+        private final int mask;
+
+        Accumulator(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+            keys = new int[capacity];
+            weights = new float[capacity];
+            matched = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        void touch(int ordinal, float weight) {
+            int key = ordinal + 1;
+            int slot = (key * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            matched[slot]++;
+            weights[slot] += weight;
+        }
+    }
+
+    @Override
+    public void upsert(Job job) {
+        long[] skillIds = job.getSkills() == null ? new long[0] : job.getSkills().stream()
+                .map(Skill::getId)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            int ordinal = allocateOrdinal();
+            ordinals.put(job.getId(), ordinal);
+            jobIds[ordinal] = job.getId();
+            skillsByOrdinal[ordinal] = skillIds;
+            minExperience[ordinal] = job.getMinExperience() != null ? job.getMinExperience() : NO_EXPERIENCE_BOUND;
+            maxExperience[ordinal] = job.getMaxExperience() != null ? job.getMaxExperience() : NO_EXPERIENCE_BOUND;
+            for (long skillId : skillIds) {
+                bySkill.computeIfAbsent(skillId, k -> new CompactBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Skill IDs of an active job, or null if the job is not indexed
+     */
+    public long[] skillIdsOf(Long jobId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(jobId);
+            return ordinal != null ? skillsByOrdinal[ordinal] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top jobs for a seeker's skills (skill ID to proficiency) and years of experience (null if unknown)
+     * Only jobs sharing at least one skill with the seeker are considered.
+     */
+    public List<Match> recommend(Map<Long, Proficiency> skills, Integer years, int limit) {
+        if (skills == null || skills.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Comparator<Match> order = Comparator.comparingDouble(Match::score)
+                .thenComparingLong(Match::jobId);
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order);
+
+        lock.readLock().lock();
+        try {
+            int candidates = 0;
+            for (Long skillId : skills.keySet()) {
+                CompactBitmap jobs = bySkill.get(skillId);
+                if (jobs != null) {
+                    candidates += jobs.cardinality();
+                }
+            }
+            Accumulator acc = new Accumulator(candidates);
+            for (Map.Entry<Long, Proficiency> skill : skills.entrySet()) {
+                CompactBitmap jobs = bySkill.get(skill.getKey());
+                if (jobs != null) {
+                    float weight = SkillMatchScorer.proficiencyWeight(skill.getValue());
+                    jobs.forEach(ordinal -> acc.touch(ordinal, weight));
+                }
+            }
+
+            for (int slot = 0; slot < acc.keys.length; slot++) {
+                int ordinal = acc.keys[slot] - 1;
+                if (ordinal < 0) {
+                    continue;
+                }
+                int required = skillsByOrdinal[ordinal].length;
+                double score = SkillMatchScorer.score(acc.weights[slot], required,
+                        SkillMatchScorer.experienceFit(years, bound(minExperience[ordinal]), bound(maxExperience[ordinal])));
+                Match match = new Match(jobIds[ordinal], score, acc.matched[slot], required);
+                if (top.size() < limit) {
+                    top.add(match);
+                } else if (order.compare(match, top.peek()) > 0) {
+                    top.poll();
+                    top.add(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> result = new ArrayList<>(top);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    private static Integer bound(int experience) {
+        return experience == NO_EXPERIENCE_BOUND ? null : experience;
+    }
+
+    private void removeInternal(Long jobId) {
+        Integer ordinal = ordinals.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        for (long skillId : skillsByOrdinal[ordinal]) {
+            CompactBitmap jobs = bySkill.get(skillId);
+            if (jobs != null) {
+                jobs.remove(ordinal);
+                if (jobs.isEmpty()) {
+                    bySkill.remove(skillId);
+                }
+            }
+        }
+        skillsByOrdinal[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    private int allocateOrdinal() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (nextOrdinal == jobIds.length) {
+            int capacity = jobIds.length * 2;
+            jobIds = Arrays.copyOf(jobIds, capacity);
+            skillsByOrdinal = Arrays.copyOf(skillsByOrdinal, capacity);
+            minExperience = Arrays.copyOf(minExperience, capacity);
+            maxExperience = Arrays.copyOf(maxExperience, capacity);
+        }
+        return nextOrdinal++;
+    }
+}
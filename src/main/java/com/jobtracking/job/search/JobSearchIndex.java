@@ -0,0 +1,157 @@
+package com.jobtracking.job.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.search.InvertedIndex;
+import com.jobtracking.common.search.TextAnalyzer;
+import com.jobtracking.job.dto.JobSearchResult;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.organization.service.OrganizationDirectory;
+import com.jobtracking.profile.entity.Skill;
+
+/**
+ * Full-text search over active jobs, served entirely from memory
+ * Fields are ranked with BM25 - title matches weigh most, then skills, type/location, description
+ */
+@Component
+public class JobSearchIndex implements JobIndex {
+
+    // Only the start of the description is kept for snippets, to bound memory per job
+    private static final int SNIPPET_SOURCE_LIMIT = 1000;
+    private static final int SNIPPET_LENGTH = 200;
+
+    // Field order: title, skills, job type, location, description
+    private final InvertedIndex index = new InvertedIndex(3.0f, 2.0f, 1.5f, 1.5f, 1.0f);
+    private final Map<Long, JobDocument> documents = new ConcurrentHashMap<>();
+    private final OrganizationDirectory organizationDirectory;
+
+    public JobSearchIndex(OrganizationDirectory organizationDirectory) {
+        this.organizationDirectory = organizationDirectory;
+    }
+
+    /**
+     * Display fields of an indexed job - the company name is resolved at query time so renames show up
+     */
+    private record JobDocument(String title, Long companyId, String location, String jobType, String description) {
+    }
+
+    @Override
+    public void upsert(Job job) {
+        String skills = job.getSkills() == null ? "" : job.getSkills().stream()
+                .map(Skill::getName)
+                .collect(Collectors.joining(" "));
+        String description = job.getDescription() != null ? job.getDescription() : "";
+
+        index.put(job.getId(), job.getTitle(), skills, job.getJobType(), job.getLocation(), description);
+        documents.put(job.getId(), new JobDocument(
+                job.getTitle(),
+                job.getCompany() != null ? job.getCompany().getId() : null,
+                job.getLocation(),
+                job.getJobType(),
+                description.length() > SNIPPET_SOURCE_LIMIT ? description.substring(0, SNIPPET_SOURCE_LIMIT) : description));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        index.remove(jobId);
+        documents.remove(jobId);
+    }
+
+    /**
+     * Search active jobs, best matches first
+     */
+    public List<JobSearchResult> search(String query, int limit) {
+        Set<String> terms = new HashSet<>(TextAnalyzer.terms(query));
+        List<JobSearchResult> results = new ArrayList<>();
+        for (InvertedIndex.Hit hit : index.search(terms, limit, null)) {
+            JobDocument doc = documents.get(hit.docId());
+            if (doc == null) {
+                continue; // Removed between search and lookup
+            }
+            results.add(new JobSearchResult(
+                    hit.docId(),
+                    doc.title(),
+                    organizationDirectory.getName(doc.companyId()),
+                    doc.location(),
+                    doc.jobType(),
+                    hit.score(),
+                    highlight(doc.title(), 0, doc.title() != null ? doc.title().length() : 0, terms),
+                    snippet(doc.description(), terms)));
+        }
+        return results;
+    }
+
+    /**
+     * Cut a window of the description around the first match
+     */
+    private String snippet(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        int matchStart = 0;
+        for (TextAnalyzer.Token token : TextAnalyzer.tokens(text)) {
+            if (terms.contains(token.term())) {
+                matchStart = token.start();
+                break;
+            }
+        }
+
+        int start = Math.max(0, matchStart - SNIPPET_LENGTH / 4);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        // Do not cut words in half
+        while (start > 0 && !Character.isWhitespace(text.charAt(start - 1))) {
+            start--;
+        }
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+
+        String body = highlight(text, start, end, terms);
+        return (start > 0 ? "…" : "") + body + (end < text.length() ? "…" : "");
+    }
+
+    /**
+     * Escape text[start, end) and wrap matching terms in em tags
+     */
+    private String highlight(String text, int start, int end, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(end - start + 32);
+        int position = start;
+        for (TextAnalyzer.Token token : TextAnalyzer.tokens(text.substring(start, end))) {
+            int tokenStart = start + token.start();
+            int tokenEnd = start + token.end();
+            if (terms.contains(token.term())) {
+                escape(text, position, tokenStart, out);
+                out.append("<em>");
+                escape(text, tokenStart, tokenEnd, out);
+                out.append("</em>");
+                position = tokenEnd;
+            }
+        }
+        escape(text, position, end, out);
+        return out.toString();
+    }
+
+    private void escape(String text, int start, int end, StringBuilder out) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
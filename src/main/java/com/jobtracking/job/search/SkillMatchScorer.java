@@ -0,0 +1,56 @@
+package com.jobtracking.job.search;
+
+import com.jobtracking.profile.enums.Proficiency;
+
+/**
+ * Scoring shared by job recommendations and applicant ranking
+ * Score = 0.75 * proficiency-weighted share of the job's skills the seeker has + 0.25 * experience fit.
+ */
+public final class SkillMatchScorer {
+
+    private static final double SKILL_WEIGHT = 0.75;
+    private static final double EXPERIENCE_WEIGHT = 0.25;
+    // Used when the seeker's years of experience are unknown
+    private static final double UNKNOWN_EXPERIENCE_FIT = 0.5;
+
+    private SkillMatchScorer() {
+    }
+
+    /**
+     * Combined score from the summed proficiency weights of matched skills and the experience fit
+     * A job that requires no skills counts as fully covered.
+     */
+    public static double score(double matchedWeight, int requiredSkills, double experienceFit) {
+        double coverage = requiredSkills == 0 ? 1 : matchedWeight / requiredSkills;
+        return SKILL_WEIGHT * coverage + EXPERIENCE_WEIGHT * experienceFit;
+    }
+
+    /**
+     * 1 inside the job's experience window, dropping off the further the seeker is below it;
+     * being over the maximum costs less than being under the minimum. Null bounds are open.
+     */
+    public static double experienceFit(Integer years, Integer min, Integer max) {
+        if (years == null) {
+            return UNKNOWN_EXPERIENCE_FIT;
+        }
+        if (min != null && years < min) {
+            return Math.max(0, 1 - (min - years) / 3.0);
+        }
+        if (max != null && years > max) {
+            return Math.max(0.5, 1 - (years - max) * 0.1);
+        }
+        return 1;
+    }
+
+    public static float proficiencyWeight(Proficiency proficiency) {
+        if (proficiency == null) {
+            return 0.5f;
+        }
+        return switch (proficiency) {
+            case BEGINNER -> 0.4f;
+            case INTERMEDIATE -> 0.6f;
+            case ADVANCED -> 0.8f;
+            case EXPERT -> 1.0f;
+        };
+    }
+}
@@ -0,0 +1,374 @@
+package com.jobtracking.job.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.common.utils.CsvReader;
+import com.jobtracking.job.dto.BulkImportResult;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.profile.service.SkillDictionary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streaming bulk job import from CSV or NDJSON
+ * Rows are parsed one at a time and written in JDBC batches (jobs, then job_skills), one transaction
+ * per batch. JPA is bypassed on purpose: IDENTITY ids stop Hibernate from batching inserts.
+ * Column names (CSV header or JSON fields): title, description, location, minSalary, maxSalary,
+ * minExperience, maxExperience, jobType, deadline, skills (names separated by ';' or '|').
+ * snake_case names are accepted too.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobBulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobBulkImportService.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_JOB = """
+            INSERT INTO jobs (title, description, location, min_salary, max_salary, min_experience,
+                              max_experience, job_type, company_id, recruiter_id, is_active, posted_at,
+                              expiry_date, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_JOB_SKILL = "INSERT INTO job_skills (job_id, skill_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SkillDictionary skillDictionary;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * A validated row ready to insert
+     */
+    private record JobRow(long line, String title, String description, String location,
+                          Double minSalary, Double maxSalary, Integer minExperience, Integer maxExperience,
+                          String jobType, LocalDateTime deadline, List<Long> skillIds) {
+    }
+
+    /**
+     * Import all rows for the recruiter's company; invalid rows are skipped and reported
+     */
+    public BulkImportResult importJobs(InputStream input, Format format, Long recruiterProfileId,
+                                       Long companyId, Long userId) throws IOException {
+        ImportState state = new ImportState(recruiterProfileId, companyId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            readCsv(reader, state);
+        } else {
+            readNdjson(reader, state);
+        }
+        flush(state);
+
+        if (state.imported > 0) {
+            auditLogService.log("JOB", null, "BULK_CREATED", userId,
+                    "Imported " + state.imported + " jobs (" + state.failed + " rows failed)");
+        }
+        return new BulkImportResult(state.imported, state.failed, state.errors);
+    }
+
+    private void readCsv(BufferedReader reader, ImportState state) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = header.stream().map(JobBulkImportService::normalizeColumn).toList();
+        if (!columns.contains("title")) {
+            throw new ValidationException("file", "CSV header must include a title column");
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < record.size(); i++) {
+                values.put(columns.get(i), record.get(i));
+            }
+            accept(values, csv.recordLine(), state);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportState state) throws IOException {
+        String text;
+        long line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (!node.isObject()) {
+                    state.reject(line, "Expected a JSON object");
+                    continue;
+                }
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    JsonNode value = field.getValue();
+                    if (value.isArray()) {
+                        List<String> items = new ArrayList<>();
+                        value.forEach(item -> items.add(item.asText()));
+                        values.put(normalizeColumn(field.getKey()), String.join(";", items));
+                    } else if (!value.isNull()) {
+                        values.put(normalizeColumn(field.getKey()), value.asText());
+                    }
+                }
+            } catch (IOException e) {
+                state.reject(line, "Invalid JSON: " + e.getMessage());
+                continue;
+            }
+            accept(values, line, state);
+        }
+    }
+
+    private void accept(Map<String, String> values, long line, ImportState state) {
+        try {
+            state.pending.add(toRow(values, line));
+        } catch (ValidationException e) {
+            state.reject(line, e.getMessage());
+            return;
+        }
+        if (state.pending.size() == BATCH_SIZE) {
+            flush(state);
+        }
+    }
+
+    private JobRow toRow(Map<String, String> values, long line) {
+        String title = text(values, "title", 200);
+        if (title == null) {
+            throw new ValidationException("Title is required");
+        }
+        Double minSalary = decimal(values, "minsalary");
+        Double maxSalary = decimal(values, "maxsalary");
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new ValidationException("minSalary is greater than maxSalary");
+        }
+        Integer minExperience = integer(values, "minexperience");
+        Integer maxExperience = integer(values, "maxexperience");
+        if (minExperience != null && maxExperience != null && minExperience > maxExperience) {
+            throw new ValidationException("minExperience is greater than maxExperience");
+        }
+
+        Set<Long> skillIds = new LinkedHashSet<>();
+        String skills = values.get("skills");
+        if (skills != null && !skills.isBlank()) {
+            for (String name : skills.split("[;|]")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                Long skillId = skillDictionary.idOf(name);
+                if (skillId == null) {
+                    throw new ValidationException("Unknown skill: " + name.trim());
+                }
+                skillIds.add(skillId);
+            }
+        }
+
+        return new JobRow(line, title, blankToNull(values.get("description")), text(values, "location", 100),
+                minSalary, maxSalary, minExperience, maxExperience, text(values, "jobtype", 50),
+                deadline(values.get("deadline")), List.copyOf(skillIds));
+    }
+
+    /**
+     * Insert the pending rows in one transaction; if the batch fails, all its rows are reported
+     */
+    private void flush(ImportState state) {
+        if (state.pending.isEmpty()) {
+            return;
+        }
+        List<JobRow> rows = new ArrayList<>(state.pending);
+        state.pending.clear();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> jobIds = insertJobs(rows, state);
+                insertJobSkills(rows, jobIds);
+                eventPublisher.publishEvent(JobChangedEvent.of(jobIds, JobChangedEvent.ChangeType.CREATED));
+            });
+            state.imported += rows.size();
+        } catch (Exception e) {
+            logger.error("Bulk job import batch failed: {}", e.getMessage());
+            for (JobRow row : rows) {
+                state.reject(row.line(), "Batch insert failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private List<Long> insertJobs(List<JobRow> rows, ImportState state) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_JOB, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        JobRow row = rows.get(i);
+                        ps.setString(1, row.title());
+                        ps.setString(2, row.description());
+                        ps.setString(3, row.location());
+                        setNullable(ps, 4, row.minSalary(), Types.DOUBLE);
+                        setNullable(ps, 5, row.maxSalary(), Types.DOUBLE);
+                        setNullable(ps, 6, row.minExperience(), Types.INTEGER);
+                        setNullable(ps, 7, row.maxExperience(), Types.INTEGER);
+                        ps.setString(8, row.jobType());
+                        ps.setLong(9, state.companyId);
+                        ps.setLong(10, state.recruiterProfileId);
+                        ps.setTimestamp(11, now);
+                        ps.setTimestamp(12, row.deadline() != null ? Timestamp.valueOf(row.deadline()) : null);
+                        ps.setTimestamp(13, now);
+                        ps.setTimestamp(14, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> jobIds = new ArrayList<>(rows.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            jobIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (jobIds.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " generated keys, got " + jobIds.size());
+        }
+        return jobIds;
+    }
+
+    private void insertJobSkills(List<JobRow> rows, List<Long> jobIds) {
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            for (Long skillId : rows.get(i).skillIds()) {
+                links.add(new Object[] { jobIds.get(i), skillId });
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_JOB_SKILL, links);
+        }
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    private static String text(Map<String, String> values, String column, int maxLength) {
+        String value = blankToNull(values.get(column));
+        if (value != null && value.length() > maxLength) {
+            throw new ValidationException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static Double decimal(Map<String, String> values, String column) {
+        String value = blankToNull(values.get(column));
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid number for " + column + ": " + value);
+        }
+    }
+
+    private static Integer integer(Map<String, String> values, String column) {
+        String value = blankToNull(values.get(column));
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid whole number for " + column + ": " + value);
+        }
+    }
+
+    /**
+     * ISO date-time, or ISO date meaning the end of that day
+     */
+    private static LocalDateTime deadline(String value) {
+        value = blankToNull(value);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                    ? LocalDate.parse(value).atTime(LocalTime.MAX.withNano(0))
+                    : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid deadline (use yyyy-MM-dd or yyyy-MM-ddTHH:mm:ss): " + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String normalizeColumn(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class ImportState {
+        final Long recruiterProfileId;
+        final Long companyId;
+        final List<JobRow> pending = new ArrayList<>(BATCH_SIZE);
+        final List<BulkImportResult.RowError> errors = new ArrayList<>();
+        int imported;
+        int failed;
+
+        ImportState(Long recruiterProfileId, Long companyId) {
+            this.recruiterProfileId = recruiterProfileId;
+            this.companyId = companyId;
+        }
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportResult.RowError(line, message));
+            }
+        }
+    }
+}
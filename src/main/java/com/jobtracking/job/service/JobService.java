@@ -2,6 +2,8 @@ package com.jobtracking.job.service;
 
 import java.util.List;
 
+import com.jobtracking.common.dto.PageResponse;
+import com.jobtracking.job.dto.JobRecommendation;
 import com.jobtracking.job.dto.JobWithSkillsResponse;
 import com.jobtracking.job.entity.Job;
 
@@ -9,6 +11,8 @@ public interface JobService {
 
     Job createJob(Job job, List<Long> skillIds);
 
+    JobWithSkillsResponse createJobForRecruiter(Long userId, Job job, List<Long> skillIds);
+
     Job getJobById(Long jobId);
     
     JobWithSkillsResponse getJobWithSkillsById(Long jobId);
@@ -16,6 +20,12 @@ public interface JobService {
     List<Job> getAllJobs();
     
     List<JobWithSkillsResponse> getAllJobsWithSkills();
+    
+    PageResponse<JobWithSkillsResponse> getJobsPage(String cursor, Integer size);
+    
+    List<JobWithSkillsResponse> getJobsWithSkillsByIds(List<Long> jobIds);
+    
+    List<JobRecommendation> getRecommendedJobs(Long userId, Integer size);
 
     List<Job> getJobsByRecruiter(Long recruiterId);
     
@@ -23,6 +33,8 @@ public interface JobService {
 
     Job updateJob(Long jobId, Job job, List<Long> skillIds);
 
+    JobWithSkillsResponse updateJobForRecruiter(Long userId, Long jobId, Job job, List<Long> skillIds);
+
     void deleteJob(Long jobId);
     
     void restoreJob(Long jobId);
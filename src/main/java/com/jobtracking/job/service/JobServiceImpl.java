@@ -1,21 +1,46 @@
 package com.jobtracking.job.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.common.dto.PageResponse;
+import com.jobtracking.common.exception.AuthorizationException;
+import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.common.utils.CursorUtil;
+import com.jobtracking.common.utils.ExperienceUtil;
+import com.jobtracking.job.cache.JobResponseCache;
+import com.jobtracking.job.dto.JobRecommendation;
 import com.jobtracking.job.dto.JobWithSkillsResponse;
 import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.event.JobChangedEvent;
 import com.jobtracking.job.mapper.JobMapper;
 import com.jobtracking.job.repository.JobRepository;
-import com.jobtracking.organization.entity.Organization;
-import com.jobtracking.organization.repository.OrganizationRepository;
+import com.jobtracking.job.search.JobRecommendationEngine;
+import com.jobtracking.organization.service.OrganizationDirectory;
+import com.jobtracking.profile.entity.JobSeekerProfile;
+import com.jobtracking.profile.entity.JobSeekerSkill;
+import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.enums.Proficiency;
+import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+import com.jobtracking.profile.repository.RecruiterProfileRepository;
 import com.jobtracking.profile.repository.SkillRepository;
+import com.jobtracking.profile.service.SkillDictionary;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,9 +50,15 @@ public class JobServiceImpl implements JobService {
 
     private final JobRepository jobRepository;
     private final SkillRepository skillRepository;
-    private final OrganizationRepository organizationRepository;
+    private final OrganizationDirectory organizationDirectory;
     private final AuditLogService auditLogService;
     private final JobMapper jobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobResponseCache jobResponseCache;
+    private final JobSeekerProfileRepository jobSeekerProfileRepository;
+    private final JobRecommendationEngine jobRecommendationEngine;
+    private final RecruiterProfileRepository recruiterProfileRepository;
+    private final SkillDictionary skillDictionary;
 
     @Override
     @Transactional
@@ -52,9 +83,88 @@ public class JobServiceImpl implements JobService {
             }
         }
         
+        eventPublisher.publishEvent(JobChangedEvent.of(savedJob.getId(), JobChangedEvent.ChangeType.CREATED));
         return savedJob;
     }
 
+    @Override
+    @Transactional
+    public JobWithSkillsResponse createJobForRecruiter(Long userId, Job job, List<Long> skillIds) {
+        // 1 statement: recruiter profile with user and company
+        RecruiterProfile recruiterProfile = recruiterProfileRepository.findWithCompanyByUserId(userId)
+                .orElseThrow(() -> new ValidationException(
+                        "Recruiter profile not found. Please create a company first to set up your recruiter profile."));
+        Organization company = recruiterProfile.getCompany();
+        checkCanPostFor(userId, company, false);
+
+        job.setId(null);
+        job.setRecruiter(recruiterProfile);
+        job.setCompany(company);
+        job.setSkills(skillDictionary.references(skillIds != null ? skillIds : List.of()));
+
+        // 2 statements: the job insert and one batched job_skills insert
+        Job savedJob = jobRepository.save(job);
+
+        auditLogService.logAsync("JOB", savedJob.getId(), "CREATED", userId, "Created job: " + savedJob.getTitle());
+        eventPublisher.publishEvent(JobChangedEvent.of(savedJob.getId(), JobChangedEvent.ChangeType.CREATED));
+        return jobMapper.toDTO(savedJob, company.getName());
+    }
+
+    @Override
+    @Transactional
+    public JobWithSkillsResponse updateJobForRecruiter(Long userId, Long jobId, Job job, List<Long> skillIds) {
+        // 1 statement: the job with its recruiter, company and skills
+        Job existingJob = jobRepository.findForUpdateById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Job", jobId));
+        if (!userId.equals(existingJob.getRecruiter().getUser().getId())) {
+            throw new AuthorizationException("You can only update jobs you posted");
+        }
+        checkCanPostFor(userId, existingJob.getCompany(), true);
+
+        existingJob.setTitle(job.getTitle());
+        existingJob.setDescription(job.getDescription());
+        existingJob.setLocation(job.getLocation());
+        existingJob.setMinSalary(job.getMinSalary());
+        existingJob.setMaxSalary(job.getMaxSalary());
+        existingJob.setMinExperience(job.getMinExperience());
+        existingJob.setMaxExperience(job.getMaxExperience());
+        existingJob.setJobType(job.getJobType());
+        existingJob.setDeadline(job.getDeadline());
+
+        // Only touch the join table when the skill set really changes
+        if (skillIds != null) {
+            Set<Long> current = existingJob.getSkills().stream().map(Skill::getId).collect(Collectors.toSet());
+            if (!current.equals(Set.copyOf(skillIds))) {
+                existingJob.setSkills(skillDictionary.references(skillIds));
+            }
+        }
+
+        // 1 statement: the jobs update, or 2 when only the skills changed (job_skills delete + batched insert;
+        // skills are not version-checked, so the job row is left alone) - changing both costs 3
+        Job updatedJob = jobRepository.saveAndFlush(existingJob);
+
+        auditLogService.logAsync("JOB", updatedJob.getId(), "UPDATED", userId, "Updated job: " + updatedJob.getTitle());
+        eventPublisher.publishEvent(JobChangedEvent.of(updatedJob.getId(), JobChangedEvent.ChangeType.UPDATED));
+        return jobMapper.toDTO(updatedJob, updatedJob.getCompany().getName());
+    }
+
+    /**
+     * The recruiter must own the company and the company must be verified
+     */
+    private void checkCanPostFor(Long userId, Organization company, boolean update) {
+        String verb = update ? "update" : "post";
+        String gerund = update ? "updating" : "posting";
+        if (company == null) {
+            throw new ValidationException("No company associated with your profile. Please create or join a company before " + gerund + " jobs.");
+        }
+        if (!Boolean.TRUE.equals(company.getVerified())) {
+            throw new ValidationException("Your company '" + company.getName() + "' is not yet verified. Please contact admin for company verification before " + gerund + " jobs.");
+        }
+        if (!userId.equals(company.getRecruiterUserId())) {
+            throw new AuthorizationException("You are not authorized to " + verb + " jobs for this company. Please ensure you own this company and it is verified.");
+        }
+    }
+
     @Override
     public Job getJobById(Long jobId) {
         return jobRepository.findByIdAndNotDeleted(jobId)
@@ -63,12 +173,14 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public JobWithSkillsResponse getJobWithSkillsById(Long jobId) {
-        Job job = jobRepository.findByIdAndNotDeletedWithSkills(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-        
-        // Get company name for the job
-        String companyName = getCompanyName(job.getCompany() != null ? job.getCompany().getId() : null);
-        return jobMapper.toDTO(job, companyName);
+        return jobResponseCache.getJob(jobId, () -> {
+            Job job = jobRepository.findByIdAndNotDeletedWithSkills(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            
+            // Get company name for the job
+            String companyName = organizationDirectory.getName(job.getCompany() != null ? job.getCompany().getId() : null);
+            return jobMapper.toDTO(job, companyName);
+        });
     }
 
     @Override
@@ -78,11 +190,137 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public List<JobWithSkillsResponse> getAllJobsWithSkills() {
-        List<Job> jobs = jobRepository.findByDeletedAtIsNullWithSkills();
-        
-        // Create company name lookup map for efficiency
-        Map<Long, String> companyNames = createCompanyNamesMap();
+        return jobResponseCache.getAllJobs(() -> {
+            List<Job> jobs = jobRepository.findByDeletedAtIsNullWithSkills();
+            
+            Map<Long, String> companyNames = companyNamesFor(jobs);
+            jobMapper.prefetch(jobs);
+            
+            return jobs.stream()
+                    .map(job -> {
+                        Long companyId = job.getCompany() != null ? job.getCompany().getId() : null;
+                        return jobMapper.toDTO(job, companyNames.get(companyId));
+                    })
+                    .collect(Collectors.toUnmodifiableList());
+        });
+    }
+
+    @Override
+    public PageResponse<JobWithSkillsResponse> getJobsPage(String cursor, Integer size) {
+        int pageSize = CursorUtil.pageSize(size);
         
+        // Fetch one extra ID to know whether another page exists
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = jobRepository.findFirstPageIds(limit);
+        } else {
+            String[] key = CursorUtil.decode(cursor, 3);
+            try {
+                ids = jobRepository.findPageIdsAfter(
+                        LocalDateTime.parse(key[0]), LocalDateTime.parse(key[1]), Long.parseLong(key[2]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+        }
+
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+        if (ids.isEmpty()) {
+            return PageResponse.of(List.of(), null);
+        }
+
+        List<JobWithSkillsResponse> items = getJobsWithSkillsByIds(ids);
+
+        String nextCursor = null;
+        if (hasMore && !items.isEmpty()) {
+            JobWithSkillsResponse last = items.get(items.size() - 1);
+            nextCursor = CursorUtil.encode(last.getPostedAt(), last.getCreatedAt(), last.getId());
+        }
+        return PageResponse.of(items, nextCursor);
+    }
+
+    @Override
+    public List<JobWithSkillsResponse> getJobsWithSkillsByIds(List<Long> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Serve what we can from the cache and load the rest in one query
+        Map<Long, JobWithSkillsResponse> responses = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : jobIds) {
+            JobWithSkillsResponse cached = jobResponseCache.getJobIfPresent(id);
+            if (cached != null) {
+                responses.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long loadGeneration = jobResponseCache.detailGeneration();
+            for (JobWithSkillsResponse loaded : loadJobsWithSkills(missing)) {
+                responses.put(loaded.getId(), loaded);
+                jobResponseCache.putJob(loaded, loadGeneration);
+            }
+        }
+
+        // Keep the requested order
+        List<JobWithSkillsResponse> result = new ArrayList<>(jobIds.size());
+        for (Long id : jobIds) {
+            JobWithSkillsResponse response = responses.get(id);
+            if (response != null) {
+                result.add(response);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobRecommendation> getRecommendedJobs(Long userId, Integer size) {
+        int limit = CursorUtil.pageSize(size);
+        JobSeekerProfile profile = jobSeekerProfileRepository.findWithSkillsByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Job seeker profile not found"));
+
+        Map<Long, Proficiency> skills = new HashMap<>();
+        if (profile.getSkills() != null) {
+            for (JobSeekerSkill seekerSkill : profile.getSkills()) {
+                skills.put(seekerSkill.getSkill().getId(), seekerSkill.getProficiency());
+            }
+        }
+
+        List<JobRecommendationEngine.Match> matches = jobRecommendationEngine.recommend(
+                skills, ExperienceUtil.parseYears(profile.getExperience()), limit);
+        Map<Long, JobWithSkillsResponse> jobs = getJobsWithSkillsByIds(matches.stream()
+                .map(JobRecommendationEngine.Match::jobId)
+                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(JobWithSkillsResponse::getId, job -> job));
+
+        List<JobRecommendation> recommendations = new ArrayList<>(matches.size());
+        for (JobRecommendationEngine.Match match : matches) {
+            JobWithSkillsResponse job = jobs.get(match.jobId());
+            if (job != null) {
+                recommendations.add(new JobRecommendation(job, match.score(), match.matchedSkills(), match.requiredSkills()));
+            }
+        }
+        return recommendations;
+    }
+
+    /**
+     * Load non-deleted jobs with skills and their company names - two queries for any number of jobs
+     */
+    private List<JobWithSkillsResponse> loadJobsWithSkills(List<Long> jobIds) {
+        List<Job> jobs = jobRepository.findAllWithSkillsByIdIn(jobIds).stream()
+                .filter(job -> job.getDeletedAt() == null)
+                .collect(Collectors.toList());
+
+        Map<Long, String> companyNames = companyNamesFor(jobs);
+        jobMapper.prefetch(jobs);
+
         return jobs.stream()
                 .map(job -> {
                     Long companyId = job.getCompany() != null ? job.getCompany().getId() : null;
@@ -100,8 +338,8 @@ public class JobServiceImpl implements JobService {
     public List<JobWithSkillsResponse> getJobsByRecruiterWithSkills(Long recruiterId) {
         List<Job> jobs = jobRepository.findByRecruiterIdAndDeletedAtIsNullWithSkills(recruiterId);
         
-        // Create company name lookup map for efficiency
-        Map<Long, String> companyNames = createCompanyNamesMap();
+        Map<Long, String> companyNames = companyNamesFor(jobs);
+        jobMapper.prefetch(jobs);
         
         return jobs.stream()
                 .map(job -> {
@@ -139,6 +377,7 @@ public class JobServiceImpl implements JobService {
             updatedJob.getRecruiter() != null && updatedJob.getRecruiter().getUser() != null ? updatedJob.getRecruiter().getUser().getId() : null, 
             "Updated job: " + updatedJob.getTitle());
 
+        eventPublisher.publishEvent(JobChangedEvent.of(updatedJob.getId(), JobChangedEvent.ChangeType.UPDATED));
         return updatedJob;
     }
 
@@ -158,6 +397,8 @@ public class JobServiceImpl implements JobService {
             job.getRecruiter() != null && job.getRecruiter().getUser() != null ? job.getRecruiter().getUser().getId() : null, 
             "Soft deleted job: " + job.getTitle());
         
+        eventPublisher.publishEvent(JobChangedEvent.of(jobId, JobChangedEvent.ChangeType.DELETED));
+        
         // Note: Skills relationship is maintained for soft delete
     }
 
@@ -173,30 +414,17 @@ public class JobServiceImpl implements JobService {
         job.setIsActive(true);
         
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(jobId, JobChangedEvent.ChangeType.RESTORED));
     }
 
     /**
-     * Get company name by ID
+     * Resolve company names for a list of jobs from the organization directory
      */
-    private String getCompanyName(Long companyId) {
-        if (companyId == null) {
-            return null;
-        }
-        return organizationRepository.findById(companyId)
-                .map(Organization::getName)
-                .orElse(null);
-    }
-
-    /**
-     * Create company names lookup map for efficient batch processing
-     */
-    private Map<Long, String> createCompanyNamesMap() {
-        return organizationRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        Organization::getId,
-                        Organization::getName,
-                        (existing, replacement) -> existing // Handle duplicate keys
-                ));
+    private Map<Long, String> companyNamesFor(List<Job> jobs) {
+        Set<Long> companyIds = jobs.stream()
+                .map(job -> job.getCompany() != null ? job.getCompany().getId() : null)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return organizationDirectory.getNames(companyIds);
     }
 }
-
@@ -18,8 +18,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.common.service.ResourceVersionService;
 import com.jobtracking.organization.dto.OrganizationRequest;
 import com.jobtracking.organization.dto.OrganizationResponse;
 import com.jobtracking.organization.entity.Organization;
@@ -36,12 +38,15 @@ public class OrganizationController {
 
     private final OrganizationService organizationService;
     private final OrganizationRepository organizationRepository;
+    private final ResourceVersionService resourceVersionService;
 
     public OrganizationController(
             OrganizationService organizationService,
-            OrganizationRepository organizationRepository) {
+            OrganizationRepository organizationRepository,
+            ResourceVersionService resourceVersionService) {
         this.organizationService = organizationService;
         this.organizationRepository = organizationRepository;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
@@ -72,8 +77,14 @@ public class OrganizationController {
 
     // ===================== GET ALL ORGANIZATIONS =====================
     @GetMapping
-    public ResponseEntity<ApiResponse<List<OrganizationResponse>>> getAllOrganizations() {
+    public ResponseEntity<ApiResponse<List<OrganizationResponse>>> getAllOrganizations(WebRequest webRequest) {
         try {
+            // Answer repeat visitors with 304 before touching the data
+            ResourceVersionService.Tag tag = resourceVersionService.tag(ResourceVersionService.ORGANIZATIONS);
+            if (webRequest.checkNotModified(tag.etag(), tag.lastModified())) {
+                return null;
+            }
+
             List<OrganizationResponse> response = organizationRepository.findAll()
                     .stream()
                     .map(this::mapToResponse)
@@ -116,7 +127,12 @@ public class OrganizationController {
 
     // ===================== GET BY ID =====================
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<OrganizationResponse>> getOrganization(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<OrganizationResponse>> getOrganization(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionService.Tag tag = resourceVersionService.tag(ResourceVersionService.organization(id));
+        if (webRequest.checkNotModified(tag.etag(), tag.lastModified())) {
+            return null;
+        }
+
         return organizationRepository.findById(id)
                 .map(org -> ResponseEntity.ok(
                         new ApiResponse<>(true, "Organization retrieved successfully", mapToResponse(org))
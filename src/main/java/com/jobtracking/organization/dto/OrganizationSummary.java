@@ -0,0 +1,7 @@
+package com.jobtracking.organization.dto;
+
+/**
+ * Compact, immutable view of a company for name lookups
+ */
+public record OrganizationSummary(long id, String name, String city, boolean verified) {
+}
@@ -0,0 +1,16 @@
+package com.jobtracking.organization.event;
+
+/**
+ * Published after a company is written so caches holding company data can refresh
+ * Listeners receive it once the surrounding transaction has committed
+ */
+public record OrganizationChangedEvent(Long organizationId, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        RENAMED,
+        VERIFIED,
+        UNVERIFIED
+    }
+}
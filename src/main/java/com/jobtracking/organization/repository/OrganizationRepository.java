@@ -1,5 +1,6 @@
 package com.jobtracking.organization.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,10 @@ public interface OrganizationRepository extends BaseRepository<Organization> {
     
     Optional<Organization> findByName(String name);
     
+    // Verification flag of many organizations in one query (for authorization checks)
+    @Query("SELECT o.id, o.verified FROM Organization o WHERE o.id IN :ids")
+    List<Object[]> findVerifiedByIdIn(@Param("ids") Collection<Long> ids);
+    
     // Count verified organizations
     @Query("SELECT COUNT(o) FROM Organization o WHERE o.verified = true")
     long countByVerifiedTrue();
@@ -0,0 +1,166 @@
+package com.jobtracking.organization.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.common.collection.LongObjectMap;
+import com.jobtracking.organization.dto.OrganizationSummary;
+import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
+import com.jobtracking.organization.repository.OrganizationRepository;
+
+/**
+ * Read-through directory of companies by ID
+ * Loaded once at startup and refreshed after company writes commit,
+ * so resolving company names for a page of jobs or applications needs no query.
+ */
+@Component
+public class OrganizationDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrganizationDirectory.class);
+
+    private final OrganizationRepository organizationRepository;
+    private final LongObjectMap<OrganizationSummary> organizations = new LongObjectMap<>(256);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OrganizationDirectory(OrganizationRepository organizationRepository) {
+        this.organizationRepository = organizationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        List<Organization> all = organizationRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            organizations.clear();
+            all.forEach(organization -> organizations.put(organization.getId(), toSummary(organization)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Loaded {} companies into the organization directory", all.size());
+    }
+
+    /**
+     * Company by ID, loading it on a miss - null if it does not exist
+     */
+    public OrganizationSummary get(Long organizationId) {
+        if (organizationId == null) {
+            return null;
+        }
+        OrganizationSummary summary = find(organizationId);
+        if (summary != null) {
+            return summary;
+        }
+        return organizationRepository.findById(organizationId)
+                .map(this::store)
+                .orElse(null);
+    }
+
+    /**
+     * Company name by ID, null if unknown
+     */
+    public String getName(Long organizationId) {
+        OrganizationSummary summary = get(organizationId);
+        return summary != null ? summary.name() : null;
+    }
+
+    /**
+     * Companies by ID - all misses are loaded with a single query
+     */
+    public Map<Long, OrganizationSummary> getAll(Collection<Long> organizationIds) {
+        Map<Long, OrganizationSummary> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : organizationIds) {
+                if (id == null) {
+                    continue;
+                }
+                OrganizationSummary summary = organizations.get(id);
+                if (summary != null) {
+                    result.put(id, summary);
+                } else {
+                    missing.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!missing.isEmpty()) {
+            organizationRepository.findAllById(missing)
+                    .forEach(organization -> result.put(organization.getId(), store(organization)));
+        }
+        return result;
+    }
+
+    /**
+     * Company names by ID - convenience for mapping lists
+     */
+    public Map<Long, String> getNames(Collection<Long> organizationIds) {
+        Map<Long, String> names = new HashMap<>();
+        getAll(organizationIds).forEach((id, summary) -> names.put(id, summary.name()));
+        return names;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        try {
+            organizationRepository.findById(event.organizationId()).ifPresentOrElse(
+                    this::store,
+                    () -> evict(event.organizationId()));
+        } catch (Exception e) {
+            // Drop the entry so the next lookup reads through
+            evict(event.organizationId());
+            logger.error("Failed to refresh company {} in directory: {}", event.organizationId(), e.getMessage());
+        }
+    }
+
+    private OrganizationSummary find(long organizationId) {
+        lock.readLock().lock();
+        try {
+            return organizations.get(organizationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private OrganizationSummary store(Organization organization) {
+        OrganizationSummary summary = toSummary(organization);
+        lock.writeLock().lock();
+        try {
+            organizations.put(summary.id(), summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return summary;
+    }
+
+    private void evict(Long organizationId) {
+        lock.writeLock().lock();
+        try {
+            organizations.remove(organizationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private OrganizationSummary toSummary(Organization organization) {
+        return new OrganizationSummary(
+                organization.getId(),
+                organization.getName(),
+                organization.getCity(),
+                Boolean.TRUE.equals(organization.getVerified()));
+    }
+}
@@ -1,9 +1,11 @@
 package com.jobtracking.organization.service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.audit.service.AuditLogService;
@@ -15,6 +17,7 @@ import com.jobtracking.common.exception.DuplicateEntityException;
 import com.jobtracking.organization.dto.OrganizationRequest;
 import com.jobtracking.organization.dto.OrganizationResponse;
 import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.organization.event.OrganizationChangedEvent;
 import com.jobtracking.organization.repository.OrganizationRepository;
 import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.repository.RecruiterProfileRepository;
@@ -26,15 +29,18 @@ public class OrganizationService {
     private final AuditLogService auditLogService;
     private final RecruiterProfileRepository recruiterProfileRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrganizationService(OrganizationRepository organizationRepository, 
                              AuditLogService auditLogService,
                              RecruiterProfileRepository recruiterProfileRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             ApplicationEventPublisher eventPublisher) {
         this.organizationRepository = organizationRepository;
         this.auditLogService = auditLogService;
         this.recruiterProfileRepository = recruiterProfileRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<OrganizationResponse> getAllOrganizations() {
@@ -91,6 +97,7 @@ public class OrganizationService {
         
         // Log the creation
         auditLogService.log("COMPANY", saved.getId(), "CREATED", recruiterUserId);
+        eventPublisher.publishEvent(new OrganizationChangedEvent(saved.getId(), OrganizationChangedEvent.ChangeType.CREATED));
 
         return mapToResponse(saved);
     }
@@ -104,6 +111,8 @@ public class OrganizationService {
             throw new AuthorizationException("update", "company profile");
         }
 
+        boolean renamed = !Objects.equals(organization.getName(), request.name());
+
         organization.setName(request.name());
         organization.setWebsite(request.website());
         organization.setCity(request.city());
@@ -115,6 +124,9 @@ public class OrganizationService {
         
         // Log the update
         auditLogService.log("COMPANY", updated.getId(), "UPDATED", recruiterUserId);
+        eventPublisher.publishEvent(new OrganizationChangedEvent(updated.getId(), renamed
+                ? OrganizationChangedEvent.ChangeType.RENAMED
+                : OrganizationChangedEvent.ChangeType.UPDATED));
 
         return mapToResponse(updated);
     }
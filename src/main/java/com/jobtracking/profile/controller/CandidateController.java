@@ -0,0 +1,37 @@
+package com.jobtracking.profile.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jobtracking.common.dto.PageResponse;
+import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.common.utils.ResponseUtil;
+import com.jobtracking.profile.dto.CandidateSearchResult;
+import com.jobtracking.profile.service.CandidateSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/candidates")
+@RequiredArgsConstructor
+public class CandidateController {
+
+    private final CandidateSearchService candidateSearchService;
+
+    /**
+     * Candidate discovery for recruiters - e.g. {@code ?skills=java:EXPERT,spring&q=fintech}
+     * Every listed skill is required (at least at the given level); text matches bios, education and experience.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<CandidateSearchResult>>> searchCandidates(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String skills,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        PageResponse<CandidateSearchResult> page = candidateSearchService.search(q, skills, cursor, size);
+        return ResponseUtil.success(page, "Candidates fetched successfully");
+    }
+}
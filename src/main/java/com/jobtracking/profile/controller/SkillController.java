@@ -5,11 +5,18 @@ import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.common.utils.CursorUtil;
+import com.jobtracking.common.utils.ResponseUtil;
+import com.jobtracking.profile.dto.SkillSuggestionResponse;
+import com.jobtracking.profile.dto.TrendingSkillResponse;
 import com.jobtracking.profile.entity.Skill;
 import com.jobtracking.profile.service.SkillService;
+import com.jobtracking.profile.service.SkillSuggestionService;
+import com.jobtracking.profile.service.SkillTrendService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +26,8 @@ import lombok.RequiredArgsConstructor;
 public class SkillController {
 
     private final SkillService skillService;
+    private final SkillTrendService skillTrendService;
+    private final SkillSuggestionService skillSuggestionService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<Skill>>> getAllSkills() {
@@ -32,4 +41,27 @@ public class SkillController {
                 .body(new ApiResponse<>(false, "Error fetching skills: " + e.getMessage(), null));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Autocomplete for skill names - prefix matches by popularity, then one-typo corrections
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SkillSuggestionResponse>>> suggestSkills(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size) {
+        List<SkillSuggestionResponse> suggestions = skillSuggestionService.suggest(q, CursorUtil.pageSize(size));
+        return ResponseUtil.success(suggestions, "Skill suggestions fetched successfully");
+    }
+
+    /**
+     * Skills ranked by time-decayed demand - served from in-memory counters, never from job_skills
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingSkillResponse>>> getTrendingSkills(
+            @RequestParam(defaultValue = "applications") String metric,
+            @RequestParam(defaultValue = "7") int window,
+            @RequestParam(required = false) Integer size) {
+        List<TrendingSkillResponse> skills = skillTrendService.trending(metric, window, CursorUtil.pageSize(size));
+        return ResponseUtil.success(skills, "Trending skills fetched successfully");
+    }
+}
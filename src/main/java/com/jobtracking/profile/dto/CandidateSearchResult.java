@@ -0,0 +1,18 @@
+package com.jobtracking.profile.dto;
+
+import java.util.List;
+
+import com.jobtracking.profile.enums.Proficiency;
+
+/**
+ * One ranked candidate - text relevance plus a bonus for the proficiency of each requested skill
+ */
+public record CandidateSearchResult(
+        Long userId,
+        String fullName,
+        double score,
+        List<CandidateSkill> skills) {
+
+    public record CandidateSkill(String name, Proficiency proficiency) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobtracking.profile.dto;
+
+/**
+ * One autocomplete suggestion - {@code corrected} is true when the query needed a typo fix to match
+ */
+public record SkillSuggestionResponse(Long id, String name, boolean corrected) {
+}
@@ -0,0 +1,12 @@
+package com.jobtracking.profile.dto;
+
+/**
+ * Decayed demand of one skill over the requested window (roughly events per window)
+ */
+public record TrendingSkillResponse(
+        Long skillId,
+        String name,
+        double postings,
+        double applications,
+        double hires) {
+}
@@ -0,0 +1,55 @@
+package com.jobtracking.profile.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Snapshot of the time-decayed demand counters of one skill
+ * Values are as of {@code updatedAt}; they keep decaying from there when loaded back.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "skill_demand")
+public class SkillDemand {
+
+    @Id
+    @Column(name = "skill_id")
+    private Long skillId;
+
+    @Column(name = "postings_7d", nullable = false)
+    private double postings7d;
+
+    @Column(name = "postings_30d", nullable = false)
+    private double postings30d;
+
+    @Column(name = "postings_90d", nullable = false)
+    private double postings90d;
+
+    @Column(name = "applications_7d", nullable = false)
+    private double applications7d;
+
+    @Column(name = "applications_30d", nullable = false)
+    private double applications30d;
+
+    @Column(name = "applications_90d", nullable = false)
+    private double applications90d;
+
+    @Column(name = "hires_7d", nullable = false)
+    private double hires7d;
+
+    @Column(name = "hires_30d", nullable = false)
+    private double hires30d;
+
+    @Column(name = "hires_90d", nullable = false)
+    private double hires90d;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
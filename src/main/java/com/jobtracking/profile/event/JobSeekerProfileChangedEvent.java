@@ -0,0 +1,8 @@
+package com.jobtracking.profile.event;
+
+/**
+ * Published when a job seeker's profile or skills are saved so the candidate index can re-read them
+ * Listeners receive it once the surrounding transaction has committed
+ */
+public record JobSeekerProfileChangedEvent(Long userId) {
+}
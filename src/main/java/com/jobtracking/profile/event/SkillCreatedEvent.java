@@ -0,0 +1,8 @@
+package com.jobtracking.profile.event;
+
+/**
+ * Published when a new skill is saved so in-memory skill lookups can pick it up
+ * Listeners receive it once the surrounding transaction has committed
+ */
+public record SkillCreatedEvent(Long skillId, String name) {
+}
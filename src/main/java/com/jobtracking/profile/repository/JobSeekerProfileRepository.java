@@ -1,8 +1,11 @@
 package com.jobtracking.profile.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +18,25 @@ public interface JobSeekerProfileRepository extends BaseRepository<JobSeekerProf
     
     Optional<JobSeekerProfile> findByUserId(Long userId);
     
+    // Find profile with skills in one query (for recommendations)
+    @EntityGraph(attributePaths = {"skills", "skills.skill"})
+    @Query("SELECT j FROM JobSeekerProfile j WHERE j.user.id = :userId")
+    Optional<JobSeekerProfile> findWithSkillsByUserId(@Param("userId") Long userId);
+    
+    // Find profiles with skills for many users in one query (for applicant ranking)
+    @EntityGraph(attributePaths = {"skills", "skills.skill"})
+    @Query("SELECT j FROM JobSeekerProfile j WHERE j.user.id IN :userIds")
+    List<JobSeekerProfile> findAllWithSkillsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    // Next page of profile IDs in ID order (for loading the candidate index in batches)
+    @Query("SELECT j.id FROM JobSeekerProfile j WHERE j.id > :lastId ORDER BY j.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // Profiles with their user and skills in one query (for the candidate index)
+    @EntityGraph(attributePaths = {"user", "skills", "skills.skill"})
+    @Query("SELECT j FROM JobSeekerProfile j WHERE j.id IN :ids")
+    List<JobSeekerProfile> findAllForIndexByIdIn(@Param("ids") Collection<Long> ids);
+    
     boolean existsByUserId(Long userId);
     
     // Find profiles with resume links
@@ -1,5 +1,6 @@
 package com.jobtracking.profile.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +16,16 @@ public interface RecruiterProfileRepository extends BaseRepository<RecruiterProf
     
     Optional<RecruiterProfile> findByUserId(Long userId);
     
+    // Find recruiter profile with user and company in one query (job write path)
+    @Query("SELECT r FROM RecruiterProfile r JOIN FETCH r.user JOIN FETCH r.company WHERE r.user.id = :userId")
+    Optional<RecruiterProfile> findWithCompanyByUserId(@Param("userId") Long userId);
+    
     boolean existsByUserId(Long userId);
     
+    // Recruiter profile ID and user ID pairs, without loading the profiles
+    @Query("SELECT r.id, r.user.id FROM RecruiterProfile r WHERE r.id IN :ids")
+    List<Object[]> findUserIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
     // Find verified recruiters
     @Query("SELECT r FROM RecruiterProfile r WHERE r.verified = true ORDER BY r.updatedAt DESC")
     List<RecruiterProfile> findByVerifiedTrue();
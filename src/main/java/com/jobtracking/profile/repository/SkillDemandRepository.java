@@ -0,0 +1,10 @@
+package com.jobtracking.profile.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jobtracking.profile.entity.SkillDemand;
+
+@Repository
+public interface SkillDemandRepository extends JpaRepository<SkillDemand, Long> {
+}
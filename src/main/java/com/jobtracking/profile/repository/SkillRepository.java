@@ -41,4 +41,13 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
         ORDER BY COUNT(j) DESC
     """)
     List<Skill> findMostPopularSkills();
+    
+    // Skill ID, name and usage count (job postings + seeker profiles), one aggregate pass per join table
+    @Query(value = """
+        SELECT s.id, s.name, COALESCE(j.cnt, 0) + COALESCE(p.cnt, 0)
+        FROM skills s
+        LEFT JOIN (SELECT skill_id, COUNT(*) AS cnt FROM job_skills GROUP BY skill_id) j ON j.skill_id = s.id
+        LEFT JOIN (SELECT skill_id, COUNT(*) AS cnt FROM jobseeker_skills GROUP BY skill_id) p ON p.skill_id = s.id
+    """, nativeQuery = true)
+    List<Object[]> findAllWithUsageCount();
 }
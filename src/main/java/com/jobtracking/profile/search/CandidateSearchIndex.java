@@ -0,0 +1,292 @@
+package com.jobtracking.profile.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracking.common.collection.LongObjectMap;
+import com.jobtracking.common.search.InvertedIndex;
+import com.jobtracking.profile.entity.JobSeekerProfile;
+import com.jobtracking.profile.entity.JobSeekerSkill;
+import com.jobtracking.profile.enums.Proficiency;
+import com.jobtracking.profile.event.JobSeekerProfileChangedEvent;
+import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+
+/**
+ * In-memory candidate discovery index for recruiters, keyed by user ID
+ * Bios, education and experience go into a BM25 text index; skills keep one posting map per skill
+ * from user ID to proficiency. Required skills filter candidates, and each matched skill adds a bonus
+ * that grows with proficiency. Queries without text scan only the rarest required skill's postings.
+ * Loaded at startup and refreshed from profile changes after commit.
+ */
+@Component
+public class CandidateSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchIndex.class);
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    // Field order: bio (English), bio (Marathi), education, experience
+    private final InvertedIndex text = new InvertedIndex(1.0f, 1.0f, 1.5f, 1.5f);
+    private final JobSeekerProfileRepository profileRepository;
+    private final ObjectMapper objectMapper;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, LongObjectMap<Proficiency>> bySkill = new HashMap<>();
+    // Skills of each indexed user - kept so an update knows which postings to touch
+    private final LongObjectMap<CandidateSkills> skillsByUser = new LongObjectMap<>(1024);
+
+    public CandidateSearchIndex(JobSeekerProfileRepository profileRepository, ObjectMapper objectMapper) {
+        this.profileRepository = profileRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * A required skill and the lowest acceptable proficiency (null accepts any level)
+     */
+    public record SkillRequirement(long skillId, Proficiency minimum) {
+    }
+
+    private record CandidateSkills(long[] skillIds, Proficiency[] levels) {
+    }
+
+    /**
+     * Build the index from the database in profile ID order, one batch at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long lastId = 0;
+        int loaded = 0;
+        while (true) {
+            List<Long> ids = profileRepository.findIdsAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (JobSeekerProfile profile : profileRepository.findAllForIndexByIdIn(ids)) {
+                upsert(profile);
+                loaded++;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        logger.info("Loaded {} job seeker profiles into the candidate index", loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(JobSeekerProfileChangedEvent event) {
+        try {
+            List<JobSeekerProfile> profiles = profileRepository.findAllWithSkillsByUserIdIn(List.of(event.userId()));
+            if (profiles.isEmpty()) {
+                remove(event.userId());
+            } else {
+                profiles.forEach(this::upsert);
+            }
+        } catch (Exception e) {
+            // Never fail the write that triggered the event
+            logger.error("Failed to update candidate index for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Add or replace a profile - profiles of deactivated users are removed
+     */
+    public void upsert(JobSeekerProfile profile) {
+        long userId = profile.getUser().getId();
+        if (Boolean.FALSE.equals(profile.getUser().getActive())) {
+            remove(userId);
+            return;
+        }
+
+        Map<Long, Proficiency> skills = new LinkedHashMap<>();
+        if (profile.getSkills() != null) {
+            for (JobSeekerSkill skill : profile.getSkills()) {
+                Proficiency level = skill.getProficiency() != null ? skill.getProficiency() : Proficiency.BEGINNER;
+                skills.merge(skill.getSkill().getId(), level, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+        }
+        long[] skillIds = skills.keySet().stream().mapToLong(Long::longValue).toArray();
+        Proficiency[] levels = skills.values().toArray(new Proficiency[0]);
+
+        text.put(userId, profile.getBioEn(), profile.getBioMr(), educationText(profile.getEducation()),
+                profile.getExperience());
+
+        lock.writeLock().lock();
+        try {
+            removeSkills(userId);
+            if (skillIds.length == 0) {
+                return;
+            }
+            for (int i = 0; i < skillIds.length; i++) {
+                bySkill.computeIfAbsent(skillIds[i], id -> new LongObjectMap<>()).put(userId, levels[i]);
+            }
+            skillsByUser.put(userId, new CandidateSkills(skillIds, levels));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        text.remove(userId);
+        lock.writeLock().lock();
+        try {
+            removeSkills(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} candidates having every required skill at its minimum level, best first
+     * With terms, candidates must also match at least one of them and are ranked by text relevance
+     * plus the skill bonus; without terms they are ranked by the skill bonus alone.
+     */
+    public List<InvertedIndex.Hit> search(Collection<String> terms, List<SkillRequirement> required, int limit) {
+        if (limit <= 0 || (terms.isEmpty() && required.isEmpty())) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<LongObjectMap<Proficiency>> postings = new ArrayList<>(required.size());
+            for (SkillRequirement requirement : required) {
+                LongObjectMap<Proficiency> posting = bySkill.get(requirement.skillId());
+                if (posting == null) {
+                    return List.of(); // Nobody has this skill
+                }
+                postings.add(posting);
+            }
+
+            LongPredicate hasSkills = userId -> {
+                for (int i = 0; i < postings.size(); i++) {
+                    Proficiency level = postings.get(i).get(userId);
+                    Proficiency minimum = required.get(i).minimum();
+                    if (level == null || (minimum != null && level.compareTo(minimum) < 0)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+            LongToDoubleFunction skillBonus = userId -> {
+                double bonus = 0;
+                for (LongObjectMap<Proficiency> posting : postings) {
+                    bonus += weight(posting.get(userId));
+                }
+                return bonus;
+            };
+
+            if (!terms.isEmpty()) {
+                return required.isEmpty()
+                        ? text.search(terms, limit, null)
+                        : text.search(terms, limit, hasSkills, skillBonus);
+            }
+
+            // Skills only - every match is in the rarest posting, so scan just that one
+            LongObjectMap<Proficiency> rarest = postings.get(0);
+            for (LongObjectMap<Proficiency> posting : postings) {
+                if (posting.size() < rarest.size()) {
+                    rarest = posting;
+                }
+            }
+            // Ties broken by user ID so offset pages stay stable
+            Comparator<InvertedIndex.Hit> worstFirst = Comparator.comparingDouble(InvertedIndex.Hit::score)
+                    .thenComparing(Comparator.comparingLong(InvertedIndex.Hit::docId).reversed());
+            PriorityQueue<InvertedIndex.Hit> heap = new PriorityQueue<>(Math.min(limit, rarest.size()) + 1, worstFirst);
+            rarest.forEach((userId, level) -> {
+                if (!hasSkills.test(userId)) {
+                    return;
+                }
+                InvertedIndex.Hit hit = new InvertedIndex.Hit(userId, skillBonus.applyAsDouble(userId));
+                if (heap.size() < limit) {
+                    heap.add(hit);
+                } else if (worstFirst.compare(hit, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            });
+
+            List<InvertedIndex.Hit> hits = new ArrayList<>(heap);
+            hits.sort(worstFirst.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Skills of an indexed candidate with their proficiency, in profile order
+     */
+    public Map<Long, Proficiency> skillsOf(long userId) {
+        Map<Long, Proficiency> skills = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            CandidateSkills candidate = skillsByUser.get(userId);
+            if (candidate != null) {
+                for (int i = 0; i < candidate.skillIds().length; i++) {
+                    skills.put(candidate.skillIds()[i], candidate.levels()[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return skills;
+    }
+
+    private void removeSkills(long userId) {
+        CandidateSkills previous = skillsByUser.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        for (long skillId : previous.skillIds()) {
+            LongObjectMap<Proficiency> posting = bySkill.get(skillId);
+            if (posting != null) {
+                posting.remove(userId);
+                if (posting.size() == 0) {
+                    bySkill.remove(skillId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bonus for holding a requested skill - 0.25 for a beginner up to 1.0 for an expert
+     */
+    private static double weight(Proficiency level) {
+        return level == null ? 0 : (level.ordinal() + 1) / (double) Proficiency.values().length;
+    }
+
+    /**
+     * Education is stored as JSON - index its values, not its keys
+     */
+    private String educationText(String education) {
+        if (education == null || !education.trim().startsWith("{")) {
+            return education;
+        }
+        try {
+            StringBuilder values = new StringBuilder();
+            for (JsonNode value : objectMapper.readTree(education)) {
+                if (value.isTextual()) {
+                    values.append(value.asText()).append(' ');
+                }
+            }
+            return values.toString();
+        } catch (Exception e) {
+            return education;
+        }
+    }
+}
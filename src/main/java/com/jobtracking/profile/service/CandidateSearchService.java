@@ -0,0 +1,125 @@
+package com.jobtracking.profile.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.auth.repository.UserRepository;
+import com.jobtracking.common.dto.PageResponse;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.common.search.InvertedIndex;
+import com.jobtracking.common.search.TextAnalyzer;
+import com.jobtracking.common.utils.CursorUtil;
+import com.jobtracking.profile.dto.CandidateSearchResult;
+import com.jobtracking.profile.enums.Proficiency;
+import com.jobtracking.profile.search.CandidateSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Ranked, paginated candidate search for recruiters on top of {@link CandidateSearchIndex}
+ * Only the names of the returned page are read from the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class CandidateSearchService {
+
+    // Deep pages re-rank everything before them - cap how far a cursor can go
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final SkillDictionary skillDictionary;
+    private final UserRepository userRepository;
+
+    /**
+     * Search candidates by free text and required skills
+     *
+     * @param skills comma separated skill names, each optionally followed by a minimum level,
+     *               e.g. {@code java:EXPERT,spring}
+     */
+    public PageResponse<CandidateSearchResult> search(String q, String skills, String cursor, Integer size) {
+        int pageSize = CursorUtil.pageSize(size);
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                offset = Integer.parseInt(CursorUtil.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            if (offset < 0 || offset >= MAX_RESULT_WINDOW) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+        }
+
+        List<String> terms = TextAnalyzer.terms(q);
+        List<CandidateSearchIndex.SkillRequirement> required = new ArrayList<>();
+        boolean unknownSkill = parseSkills(skills, required);
+        if (terms.isEmpty() && required.isEmpty() && !unknownSkill) {
+            throw new ValidationException("Provide a search text or at least one skill");
+        }
+        if (unknownSkill) {
+            return PageResponse.of(List.of(), null); // Nobody can have a skill that does not exist
+        }
+
+        int limit = Math.min(offset + pageSize + 1, MAX_RESULT_WINDOW);
+        List<InvertedIndex.Hit> hits = candidateSearchIndex.search(terms, required, limit);
+        List<InvertedIndex.Hit> page = hits.subList(Math.min(offset, hits.size()),
+                Math.min(offset + pageSize, hits.size()));
+        boolean hasMore = hits.size() > offset + pageSize && offset + pageSize < MAX_RESULT_WINDOW;
+
+        Map<Long, User> users = userRepository.findAllById(page.stream().map(InvertedIndex.Hit::docId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<CandidateSearchResult> results = new ArrayList<>(page.size());
+        for (InvertedIndex.Hit hit : page) {
+            User user = users.get(hit.docId());
+            if (user == null) {
+                continue; // Deleted between search and lookup
+            }
+            List<CandidateSearchResult.CandidateSkill> candidateSkills = candidateSearchIndex.skillsOf(hit.docId())
+                    .entrySet().stream()
+                    .map(skill -> new CandidateSearchResult.CandidateSkill(
+                            skillDictionary.nameOf(skill.getKey()), skill.getValue()))
+                    .toList();
+            results.add(new CandidateSearchResult(user.getId(), user.getFullname(), hit.score(), candidateSkills));
+        }
+        return PageResponse.of(results, hasMore ? CursorUtil.encode(offset + pageSize) : null);
+    }
+
+    /**
+     * Parse the skills parameter into requirements, returns true if a skill name is unknown
+     */
+    private boolean parseSkills(String skills, List<CandidateSearchIndex.SkillRequirement> required) {
+        if (skills == null || skills.isBlank()) {
+            return false;
+        }
+        boolean unknown = false;
+        for (String spec : skills.split(",")) {
+            if (spec.isBlank()) {
+                continue;
+            }
+            String[] parts = spec.split(":", 2);
+            Proficiency minimum = null;
+            if (parts.length == 2 && !parts[1].isBlank()) {
+                try {
+                    minimum = Proficiency.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new ValidationException("skills", "Unknown proficiency: " + parts[1].trim());
+                }
+            }
+            Long skillId = skillDictionary.idOf(parts[0]);
+            if (skillId == null) {
+                unknown = true;
+            } else {
+                required.add(new CandidateSearchIndex.SkillRequirement(skillId, minimum));
+            }
+        }
+        return unknown;
+    }
+}
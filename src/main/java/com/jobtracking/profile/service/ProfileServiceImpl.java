@@ -1,5 +1,6 @@
 package com.jobtracking.profile.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +17,8 @@ import com.jobtracking.profile.entity.JobSeekerSkill;
 import com.jobtracking.profile.entity.RecruiterProfile;
 import com.jobtracking.profile.entity.Skill;
 import com.jobtracking.profile.enums.Proficiency;
+import com.jobtracking.profile.event.JobSeekerProfileChangedEvent;
+import com.jobtracking.profile.event.SkillCreatedEvent;
 import com.jobtracking.profile.repository.JobSeekerProfileRepository;
 import com.jobtracking.profile.repository.JobSeekerSkillsRepository;
 import com.jobtracking.profile.repository.RecruiterProfileRepository;
@@ -35,6 +38,7 @@ public class ProfileServiceImpl implements ProfileService {
 	private final JobSeekerSkillsRepository jobSeekerSkills;
 	private final SkillRepository skillRepo;
 	private final AuditLogService auditLogService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public ProfileResponse getJobSeekerProfile(Long id) {
 		User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
@@ -163,7 +167,9 @@ public class ProfileServiceImpl implements ProfileService {
 							.orElseGet(() -> {
 								Skill s = new Skill();
 								s.setName(skillName.trim());
-								return skillRepo.save(s);
+								s = skillRepo.save(s);
+								eventPublisher.publishEvent(new SkillCreatedEvent(s.getId(), s.getName()));
+								return s;
 							});
 
 					JobSeekerSkill js = new JobSeekerSkill();
@@ -177,6 +183,7 @@ public class ProfileServiceImpl implements ProfileService {
 		
 		// Log profile update
 		auditLogService.log("PROFILE", profile.getId(), "UPDATED", userId);
+		eventPublisher.publishEvent(new JobSeekerProfileChangedEvent(userId));
 	}
 
 	@Override
@@ -0,0 +1,117 @@
+package com.jobtracking.profile.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.repository.SkillRepository;
+
+/**
+ * In-memory skill name/ID dictionary, loaded at startup and read-through on misses
+ * Skills are only ever added, so cached entries never go stale.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDictionary.class);
+
+    private final SkillRepository skillRepository;
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillRepository skillRepository) {
+        this.skillRepository = skillRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        skillRepository.findAll().forEach(this::remember);
+        logger.info("Loaded {} skills into the skill dictionary", namesById.size());
+    }
+
+    /**
+     * ID of the skill with this name (case insensitive), or null if there is no such skill
+     */
+    public Long idOf(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String key = normalize(name);
+        Long id = idsByName.get(key);
+        if (id == null) {
+            id = skillRepository.findByNameIgnoreCase(name.trim())
+                    .map(this::remember)
+                    .orElse(null);
+        }
+        return id;
+    }
+
+    /**
+     * Name of the skill with this ID, or null if there is no such skill
+     */
+    public String nameOf(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String name = namesById.get(id);
+        if (name == null) {
+            name = skillRepository.findById(id)
+                    .map(skill -> {
+                        remember(skill);
+                        return skill.getName();
+                    })
+                    .orElse(null);
+        }
+        return name;
+    }
+
+    /**
+     * Detached Skill references for the given IDs (unknown IDs are skipped), usable as
+     * association targets without loading the skills in the current persistence context
+     */
+    public List<Skill> references(Collection<Long> ids) {
+        List<Skill> skills = new ArrayList<>();
+        if (ids == null) {
+            return skills;
+        }
+        // Each skill once - a repeated ID would insert a duplicate join row
+        for (Long id : new LinkedHashSet<>(ids)) {
+            String name = nameOf(id);
+            if (name != null) {
+                Skill skill = new Skill(name);
+                skill.setId(id);
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    public boolean exists(Long id) {
+        return nameOf(id) != null;
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    private Long remember(Skill skill) {
+        idsByName.put(normalize(skill.getName()), skill.getId());
+        namesById.put(skill.getId(), skill.getName());
+        return skill.getId();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
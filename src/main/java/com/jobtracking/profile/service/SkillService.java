@@ -2,9 +2,11 @@ package com.jobtracking.profile.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.event.SkillCreatedEvent;
 import com.jobtracking.profile.repository.SkillRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Skill> getAllSkills() {
         return skillRepository.findAll();
@@ -21,6 +24,10 @@ public class SkillService {
 
     public Skill createSkill(String skillName) {
         return skillRepository.findByName(skillName)
-            .orElseGet(() -> skillRepository.save(new Skill(skillName)));
+            .orElseGet(() -> {
+                Skill skill = skillRepository.save(new Skill(skillName));
+                eventPublisher.publishEvent(new SkillCreatedEvent(skill.getId(), skill.getName()));
+                return skill;
+            });
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.jobtracking.profile.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jobtracking.common.search.CompletionTrie;
+import com.jobtracking.profile.dto.SkillSuggestionResponse;
+import com.jobtracking.profile.event.SkillCreatedEvent;
+import com.jobtracking.profile.repository.SkillRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Skill autocomplete served from an in-memory trie weighted by how often each skill is used
+ * Matches are prefix matches first; queries of three or more characters also tolerate one typo.
+ * New skills are added as they are created; usage weights are rebuilt periodically.
+ */
+@Service
+@RequiredArgsConstructor
+public class SkillSuggestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillSuggestionService.class);
+
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
+
+    private volatile CompletionTrie trie = new CompletionTrie();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.skills.suggest.refresh-interval-ms:3600000}",
+            fixedDelayString = "${app.skills.suggest.refresh-interval-ms:3600000}")
+    public void rebuild() {
+        CompletionTrie rebuilt = new CompletionTrie();
+        for (Object[] row : skillRepository.findAllWithUsageCount()) {
+            rebuilt.put(normalize((String) row[1]), ((Number) row[0]).longValue(), ((Number) row[2]).doubleValue());
+        }
+        trie = rebuilt;
+        logger.info("Built skill suggestion trie with {} skills", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillCreated(SkillCreatedEvent event) {
+        trie.put(normalize(event.name()), event.skillId(), 0);
+    }
+
+    /**
+     * Up to {@code limit} skills whose name starts with the query (or with a one-edit variant of it)
+     */
+    public List<SkillSuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String prefix = normalize(query);
+        int maxEdits = prefix.length() >= MIN_FUZZY_LENGTH ? 1 : 0;
+        return trie.complete(prefix, maxEdits, limit).stream()
+                .map(match -> new SkillSuggestionResponse(
+                        match.id(),
+                        skillDictionary.nameOf(match.id()),
+                        match.distance() > 0))
+                .toList();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,338 @@
+package com.jobtracking.profile.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.event.ApplicationChangedEvent;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.search.JobRecommendationEngine;
+import com.jobtracking.profile.dto.TrendingSkillResponse;
+import com.jobtracking.profile.entity.SkillDemand;
+import com.jobtracking.profile.repository.SkillDemandRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-skill demand counters (postings, applications, hires) kept in memory and updated on every write
+ * Each counter is exponentially decayed with a 7, 30 and 90 day time constant, so its value approximates
+ * the number of events in that window without storing the events. Events recorded on this node since the
+ * last flush are kept as separate deltas; a flush adds them onto the skill_demand rows (decaying the stored
+ * values first), so every node's events add up instead of the last node to flush overwriting the others.
+ * Ranking reads the stored counters, reloaded after every flush, plus this node's unflushed deltas.
+ */
+@Service
+@RequiredArgsConstructor
+public class SkillTrendService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTrendService.class);
+
+    private static final int[] WINDOW_DAYS = { 7, 30, 90 };
+    private static final double MILLIS_PER_DAY = 86_400_000d;
+
+    // Stored values decay from their updated_at to this flush before the delta is added; updated_at is
+    // assigned last so every counter expression still sees the previous one
+    private static final String ADD_DELTAS = """
+            INSERT INTO skill_demand (skill_id, postings_7d, postings_30d, postings_90d,
+                                      applications_7d, applications_30d, applications_90d,
+                                      hires_7d, hires_30d, hires_90d, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                postings_7d = postings_7d * %1$s + VALUES(postings_7d),
+                postings_30d = postings_30d * %2$s + VALUES(postings_30d),
+                postings_90d = postings_90d * %3$s + VALUES(postings_90d),
+                applications_7d = applications_7d * %1$s + VALUES(applications_7d),
+                applications_30d = applications_30d * %2$s + VALUES(applications_30d),
+                applications_90d = applications_90d * %3$s + VALUES(applications_90d),
+                hires_7d = hires_7d * %1$s + VALUES(hires_7d),
+                hires_30d = hires_30d * %2$s + VALUES(hires_30d),
+                hires_90d = hires_90d * %3$s + VALUES(hires_90d),
+                updated_at = GREATEST(updated_at, VALUES(updated_at))
+            """.formatted(decaySql(WINDOW_DAYS[0]), decaySql(WINDOW_DAYS[1]), decaySql(WINDOW_DAYS[2]));
+
+    private final SkillDemandRepository skillDemandRepository;
+    private final JobRepository jobRepository;
+    private final JobRecommendationEngine jobRecommendationEngine;
+    private final SkillDictionary skillDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Stored counters as of the last load, plus the local events recorded since
+    private volatile Map<Long, DecayedCounters> counters = new ConcurrentHashMap<>();
+    // Local events not yet added to skill_demand
+    private final Map<Long, DecayedCounters> pending = new ConcurrentHashMap<>();
+
+    public enum Metric {
+        POSTINGS,
+        APPLICATIONS,
+        HIRES
+    }
+
+    /**
+     * Counters of one skill: values[metric * 3 + window], all decayed up to {@code updatedAt}
+     */
+    private static final class DecayedCounters {
+        final double[] values = new double[Metric.values().length * WINDOW_DAYS.length];
+        long updatedAt;
+
+        DecayedCounters(long updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        synchronized void add(Metric metric, long now) {
+            decayTo(now);
+            for (int w = 0; w < WINDOW_DAYS.length; w++) {
+                values[metric.ordinal() * WINDOW_DAYS.length + w] += 1;
+            }
+        }
+
+        synchronized double[] snapshot(long now) {
+            decayTo(now);
+            return values.clone();
+        }
+
+        /**
+         * Take the values as of {@code now} and reset them to zero, or null if there is nothing to take
+         */
+        synchronized double[] drain(long now) {
+            decayTo(now);
+            double[] drained = values.clone();
+            Arrays.fill(values, 0);
+            for (double value : drained) {
+                if (value != 0) {
+                    return drained;
+                }
+            }
+            return null;
+        }
+
+        synchronized void merge(double[] delta, long now) {
+            decayTo(now);
+            for (int i = 0; i < values.length; i++) {
+                values[i] += delta[i];
+            }
+        }
+
+        private void decayTo(long now) {
+            if (now <= updatedAt) {
+                return;
+            }
+            double elapsedDays = (now - updatedAt) / MILLIS_PER_DAY;
+            for (int w = 0; w < WINDOW_DAYS.length; w++) {
+                double factor = Math.exp(-elapsedDays / WINDOW_DAYS[w]);
+                for (int m = 0; m < Metric.values().length; m++) {
+                    values[m * WINDOW_DAYS.length + w] *= factor;
+                }
+            }
+            updatedAt = now;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        reload();
+        logger.info("Loaded demand counters for {} skills", counters.size());
+    }
+
+    /**
+     * Replace the ranked counters with the stored ones plus the local deltas not yet flushed
+     */
+    private void reload() {
+        Map<Long, DecayedCounters> loaded = new ConcurrentHashMap<>();
+        for (SkillDemand demand : skillDemandRepository.findAll()) {
+            DecayedCounters stored = new DecayedCounters(toMillis(demand.getUpdatedAt()));
+            double[] v = stored.values;
+            v[0] = demand.getPostings7d();
+            v[1] = demand.getPostings30d();
+            v[2] = demand.getPostings90d();
+            v[3] = demand.getApplications7d();
+            v[4] = demand.getApplications30d();
+            v[5] = demand.getApplications90d();
+            v[6] = demand.getHires7d();
+            v[7] = demand.getHires30d();
+            v[8] = demand.getHires90d();
+            loaded.put(demand.getSkillId(), stored);
+        }
+        long now = System.currentTimeMillis();
+        pending.forEach((skillId, delta) -> loaded.computeIfAbsent(skillId, id -> new DecayedCounters(now))
+                .merge(delta.snapshot(now), now));
+        counters = loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type() != JobChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            jobRepository.findSkillIdsByJobIdIn(event.jobIds())
+                    .forEach(skillId -> record(skillId, Metric.POSTINGS, now));
+        } catch (Exception e) {
+            logger.error("Failed to record skill demand for {}: {}", event, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        Metric metric;
+        if (event.type() == ApplicationChangedEvent.ChangeType.SUBMITTED) {
+            metric = Metric.APPLICATIONS;
+        } else if (event.type() == ApplicationChangedEvent.ChangeType.STATUS_CHANGED
+                && event.status() == ApplicationStatus.HIRED) {
+            // Withdrawals carry the status they left, so only a move into HIRED counts
+            metric = Metric.HIRES;
+        } else {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long[] skillIds = jobRecommendationEngine.skillIdsOf(event.jobId());
+            if (skillIds != null) {
+                for (long skillId : skillIds) {
+                    record(skillId, metric, now);
+                }
+            } else {
+                // Inactive jobs are not indexed - fall back to the job's own join rows
+                jobRepository.findSkillIdsByJobIdIn(List.of(event.jobId()))
+                        .forEach(skillId -> record(skillId, metric, now));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to record skill demand for {}: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * Skills ranked by decayed demand for one metric over a 7, 30 or 90 day window
+     */
+    public List<TrendingSkillResponse> trending(String metricName, int windowDays, int limit) {
+        Metric metric;
+        try {
+            metric = Metric.valueOf(metricName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Metric must be one of postings, applications, hires");
+        }
+        int window = windowIndex(windowDays);
+        int sortColumn = metric.ordinal() * WINDOW_DAYS.length + window;
+
+        long now = System.currentTimeMillis();
+        Comparator<Map.Entry<Long, double[]>> order = Comparator.comparingDouble(entry -> entry.getValue()[sortColumn]);
+        PriorityQueue<Map.Entry<Long, double[]>> top = new PriorityQueue<>(limit + 1, order);
+        counters.forEach((skillId, skillCounters) -> {
+            double[] values = skillCounters.snapshot(now);
+            if (values[sortColumn] <= 0) {
+                return;
+            }
+            top.add(Map.entry(skillId, values));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Map.Entry<Long, double[]>> ranked = new ArrayList<>(top);
+        ranked.sort(order.reversed());
+        List<TrendingSkillResponse> result = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, double[]> entry : ranked) {
+            double[] values = entry.getValue();
+            result.add(new TrendingSkillResponse(
+                    entry.getKey(),
+                    skillDictionary.nameOf(entry.getKey()),
+                    round(values[Metric.POSTINGS.ordinal() * WINDOW_DAYS.length + window]),
+                    round(values[Metric.APPLICATIONS.ordinal() * WINDOW_DAYS.length + window]),
+                    round(values[Metric.HIRES.ordinal() * WINDOW_DAYS.length + window])));
+        }
+        return result;
+    }
+
+    /**
+     * Add this node's deltas to skill_demand in one batched upsert, then reload the combined counters
+     */
+    @Scheduled(initialDelayString = "${app.skills.demand.flush-interval-ms:300000}",
+            fixedDelayString = "${app.skills.demand.flush-interval-ms:300000}")
+    @PreDestroy
+    public void flush() {
+        long now = System.currentTimeMillis();
+        Map<Long, double[]> deltas = new HashMap<>();
+        pending.forEach((skillId, delta) -> {
+            double[] drained = delta.drain(now);
+            if (drained != null) {
+                deltas.put(skillId, drained);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp updatedAt = new Timestamp(now);
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((skillId, v) ->
+                rows.add(new Object[] { skillId, v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], updatedAt }));
+        try {
+            // One transaction, so a failure adds none of the deltas and they can all be retried
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_DELTAS, rows));
+        } catch (Exception e) {
+            // Put the deltas back so the next flush retries them
+            deltas.forEach((skillId, v) -> pending.get(skillId).merge(v, now));
+            logger.error("Failed to flush skill demand counters: {}", e.getMessage());
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.error("Failed to reload skill demand counters: {}", e.getMessage());
+        }
+    }
+
+    private void record(long skillId, Metric metric, long now) {
+        pending.computeIfAbsent(skillId, id -> new DecayedCounters(now)).add(metric, now);
+        counters.computeIfAbsent(skillId, id -> new DecayedCounters(now)).add(metric, now);
+    }
+
+    /**
+     * SQL decay factor of a stored counter from its updated_at to the flush time
+     */
+    private static String decaySql(int windowDays) {
+        return "EXP(-GREATEST(TIMESTAMPDIFF(SECOND, updated_at, VALUES(updated_at)), 0) / "
+                + (long) (windowDays * MILLIS_PER_DAY / 1000) + ")";
+    }
+
+    private static int windowIndex(int windowDays) {
+        for (int w = 0; w < WINDOW_DAYS.length; w++) {
+            if (WINDOW_DAYS[w] == windowDays) {
+                return w;
+            }
+        }
+        throw new ValidationException("Window must be 7, 30 or 90 days");
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,83 @@
+package com.jobtracking.resume.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jobtracking.common.controller.BaseController;
+import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.common.utils.FileResponseUtil;
+import com.jobtracking.common.utils.ResponseUtil;
+import com.jobtracking.resume.dto.ResumeResponse;
+import com.jobtracking.resume.service.ResumeService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resume upload and download
+ * Uploads are the raw file as the request body; the returned URL can be stored as an application's
+ * resume or a profile's resume link.
+ */
+@RestController
+@RequestMapping("/resumes")
+@RequiredArgsConstructor
+public class ResumeController extends BaseController {
+
+    private final ResumeService resumeService;
+
+    @PostMapping(consumes = { "application/pdf", "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document" })
+    public ResponseEntity<ApiResponse<ResumeResponse>> uploadResume(
+            @RequestHeader(value = "X-File-Name", required = false) String fileName,
+            HttpServletRequest request) throws IOException {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+        ResumeResponse resume = resumeService.upload(userId, request.getInputStream(), request.getContentType(),
+                fileName, request.getContentLengthLong());
+        return ResponseUtil.success(resume, "Resume uploaded successfully", HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ResumeResponse>>> getMyResumes() {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseUtil.unauthorized("User not authenticated");
+        }
+        return ResponseUtil.success(resumeService.getResumes(userId));
+    }
+
+    /**
+     * Resume file by content hash, with Range and If-None-Match support
+     * Job seekers can read their own uploads, recruiters the resumes attached to applications for
+     * their organization's jobs, and admins any resume.
+     */
+    @RequestMapping(value = "/{sha256}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void downloadResume(@PathVariable String sha256, Authentication authentication,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean isRecruiter = hasAuthority(authentication, "ROLE_RECRUITER");
+        boolean isAdmin = hasAuthority(authentication, "ROLE_ADMIN");
+        ResumeService.ResumeFile file = resumeService.getResumeFile(sha256, getCurrentUserId(), isRecruiter, isAdmin);
+        // Content-addressed: the hash is a strong ETag that can never go stale
+        FileResponseUtil.write(request, response, file.path(), file.contentType(), "\"" + file.sha256() + "\"",
+                file.fileName());
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String authority) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(granted -> granted.getAuthority().equals(authority));
+    }
+}
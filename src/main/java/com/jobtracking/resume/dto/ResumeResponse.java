@@ -0,0 +1,10 @@
+package com.jobtracking.resume.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An uploaded resume; {@code url} can be used as an application's resume or a profile's resume link
+ */
+public record ResumeResponse(Long id, String sha256, long sizeBytes, String contentType, String fileName,
+                             String url, LocalDateTime uploadedAt) {
+}
@@ -0,0 +1,45 @@
+package com.jobtracking.resume.entity;
+
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.common.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A resume uploaded by a user
+ * The file itself lives once in the content-addressed store under its SHA-256;
+ * rows only record who uploaded which content, so identical uploads share one file.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "resumes",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "sha256" }),
+        indexes = @Index(name = "idx_resumes_sha256", columnList = "sha256"))
+public class Resume extends BaseEntity {
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+}
@@ -0,0 +1,33 @@
+package com.jobtracking.resume.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jobtracking.common.repository.BaseRepository;
+import com.jobtracking.resume.entity.Resume;
+
+public interface ResumeRepository extends BaseRepository<Resume> {
+
+    @Query("SELECT r FROM Resume r WHERE r.user.id = :userId AND r.sha256 = :sha256")
+    Optional<Resume> findByUserIdAndSha256(@Param("userId") Long userId, @Param("sha256") String sha256);
+
+    @Query("SELECT r FROM Resume r WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
+    List<Resume> findByUserId(@Param("userId") Long userId);
+
+    // Any upload of this content - metadata for serving it (served via idx_resumes_sha256)
+    Optional<Resume> findFirstBySha256(String sha256);
+
+    // Applicants whose live application links this resume, to a job the recruiter posted or their organization owns
+    @Query("""
+            SELECT DISTINCT a.user.id FROM Application a, RecruiterProfile rp
+            WHERE rp.user.id = :recruiterId
+              AND a.deletedAt IS NULL
+              AND a.resumePath LIKE CONCAT('%/resumes/', :sha256)
+              AND (a.job.recruiter.id = rp.id OR a.job.company.id = rp.company.id)
+            """)
+    List<Long> findApplicantIdsVisibleToRecruiter(@Param("recruiterId") Long recruiterId,
+                                                  @Param("sha256") String sha256);
+}
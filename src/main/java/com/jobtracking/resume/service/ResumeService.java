@@ -0,0 +1,139 @@
+package com.jobtracking.resume.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.auth.repository.UserRepository;
+import com.jobtracking.common.exception.AuthorizationException;
+import com.jobtracking.common.exception.EntityNotFoundException;
+import com.jobtracking.common.exception.FileTooLargeException;
+import com.jobtracking.common.exception.ValidationException;
+import com.jobtracking.resume.dto.ResumeResponse;
+import com.jobtracking.resume.entity.Resume;
+import com.jobtracking.resume.repository.ResumeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Upload and lookup of resumes kept in the local {@link ResumeStore}
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumeService {
+
+    // Accepted content types and the magic bytes their files start with
+    private static final Map<String, byte[]> SIGNATURES = Map.of(
+            "application/pdf", new byte[] { '%', 'P', 'D', 'F' },
+            "application/msword", new byte[] { (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0 },
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", new byte[] { 'P', 'K', 3, 4 });
+
+    private final ResumeStore resumeStore;
+    private final ResumeRepository resumeRepository;
+    private final UserRepository userRepository;
+    private final AuditLogService auditLogService;
+
+    /**
+     * A stored resume ready to be served
+     */
+    public record ResumeFile(Path path, String sha256, String contentType, String fileName) {
+    }
+
+    /**
+     * Store the uploaded bytes (deduplicated by content) and record the upload for the user
+     * Not transactional: no connection is held while the body is streamed in.
+     */
+    public ResumeResponse upload(Long userId, InputStream input, String contentType, String fileName,
+                                 long declaredLength) throws IOException {
+        String type = contentType != null ? contentType.split(";")[0].trim().toLowerCase(Locale.ROOT) : null;
+        byte[] signature = type != null ? SIGNATURES.get(type) : null;
+        if (signature == null) {
+            throw new ValidationException("Resumes must be PDF or Word documents");
+        }
+        // Reject before reading the body when the client announced the size
+        if (declaredLength > resumeStore.maxBytes()) {
+            throw new FileTooLargeException(resumeStore.maxBytes());
+        }
+
+        ResumeStore.StoredFile stored = resumeStore.store(input, signature);
+
+        Resume resume = resumeRepository.findByUserIdAndSha256(userId, stored.sha256()).orElse(null);
+        if (resume == null) {
+            resume = new Resume();
+            resume.setUser(userRepository.getReferenceById(userId));
+            resume.setSha256(stored.sha256());
+            resume.setSizeBytes(stored.size());
+            resume.setContentType(type);
+            resume.setFileName(cleanFileName(fileName));
+            try {
+                resume = resumeRepository.saveAndFlush(resume);
+            } catch (DataIntegrityViolationException e) {
+                // The same user uploaded the same file concurrently
+                resume = resumeRepository.findByUserIdAndSha256(userId, stored.sha256()).orElseThrow(() -> e);
+            }
+            auditLogService.log("RESUME", resume.getId(), "UPLOADED", userId, "Uploaded resume " + stored.sha256());
+        }
+        return toResponse(resume);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResumeResponse> getResumes(Long userId) {
+        return resumeRepository.findByUserId(userId).stream().map(ResumeService::toResponse).toList();
+    }
+
+    /**
+     * Resume by content hash - the uploader's own copy; for recruiters a copy attached to an application
+     * for one of their (or their organization's) jobs; for admins any copy
+     */
+    @Transactional(readOnly = true)
+    public ResumeFile getResumeFile(String sha256, Long userId, boolean isRecruiter, boolean isAdmin) {
+        Path path = resumeStore.locate(sha256);
+        if (path == null) {
+            throw new EntityNotFoundException("Resume", sha256);
+        }
+        Resume resume;
+        if (isAdmin) {
+            resume = resumeRepository.findFirstBySha256(sha256)
+                    .orElseThrow(() -> new EntityNotFoundException("Resume", sha256));
+        } else {
+            resume = resumeRepository.findByUserIdAndSha256(userId, sha256).orElse(null);
+            if (resume == null && isRecruiter) {
+                resume = resumeRepository.findApplicantIdsVisibleToRecruiter(userId, sha256).stream()
+                        .map(applicantId -> resumeRepository.findByUserIdAndSha256(applicantId, sha256).orElse(null))
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
+            }
+        }
+        if (resume == null) {
+            throw new AuthorizationException("download", "resume " + sha256);
+        }
+        return new ResumeFile(path, sha256, resume.getContentType(), resume.getFileName());
+    }
+
+    private static ResumeResponse toResponse(Resume resume) {
+        return new ResumeResponse(resume.getId(), resume.getSha256(), resume.getSizeBytes(),
+                resume.getContentType(), resume.getFileName(), "/resumes/" + resume.getSha256(),
+                resume.getCreatedAt());
+    }
+
+    private static String cleanFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return null;
+        }
+        // Keep only the last path segment and drop control characters
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .trim();
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+}
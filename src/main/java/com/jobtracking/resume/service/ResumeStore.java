@@ -0,0 +1,138 @@
+package com.jobtracking.resume.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jobtracking.common.exception.FileTooLargeException;
+import com.jobtracking.common.exception.ValidationException;
+
+/**
+ * Content-addressed file store on the local disk
+ * Each file is stored once under its SHA-256 ({@code ab/cd/abcd...}), so uploading the same bytes twice
+ * costs one hash and no extra disk. Uploads are streamed to a temporary file while being hashed,
+ * never held in memory, and moved into place atomically; stored files are never modified.
+ */
+@Component
+public class ResumeStore {
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tmp;
+    private final long maxBytes;
+
+    /**
+     * A stored file: its content hash and size
+     */
+    public record StoredFile(String sha256, long size) {
+    }
+
+    public ResumeStore(@Value("${app.resumes.storage-dir:data/resumes}") String storageDir,
+                       @Value("${app.resumes.max-size-bytes:5242880}") long maxBytes) throws IOException {
+        this.root = Path.of(storageDir).toAbsolutePath().normalize();
+        this.tmp = root.resolve("tmp");
+        this.maxBytes = maxBytes;
+        Files.createDirectories(tmp);
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Stream the input into the store, failing with {@link FileTooLargeException} past the size limit
+     * and with {@link ValidationException} unless the content starts with {@code signature}
+     */
+    public StoredFile store(InputStream input, byte[] signature) throws IOException {
+        MessageDigest digest = sha256();
+        Path upload = Files.createTempFile(tmp, "upload-", ".part");
+        long size = 0;
+        byte[] head = new byte[signature.length];
+        int headLength = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(upload)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new FileTooLargeException(maxBytes);
+                    }
+                    if (headLength < head.length) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            if (!Arrays.equals(head, signature)) {
+                throw new ValidationException("File content does not match its declared type");
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = path(sha256);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(upload, target);
+            }
+            return new StoredFile(sha256, size);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    /**
+     * Path of a stored file, or null if the hash is malformed or unknown
+     */
+    public Path locate(String sha256) {
+        if (sha256 == null || !SHA256.matcher(sha256).matches()) {
+            return null;
+        }
+        Path path = path(sha256);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private Path path(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static void moveIntoPlace(Path upload, Path target) throws IOException {
+        try {
+            Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content stored concurrently - identical bytes, keep the existing file
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(upload, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Same as above
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
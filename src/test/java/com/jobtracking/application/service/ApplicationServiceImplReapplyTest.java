@@ -0,0 +1,103 @@
+package com.jobtracking.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.jobtracking.application.dto.ApplyJobRequest;
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.event.ApplicationChangedEvent;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.auth.repository.UserRepository;
+import com.jobtracking.common.service.EntityLoaders;
+import com.jobtracking.common.utils.AuthorizationUtil;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.organization.service.OrganizationDirectory;
+
+/**
+ * Re-applying after a withdrawal reopens the withdrawn row instead of inserting a duplicate
+ */
+class ApplicationServiceImplReapplyTest {
+
+    private static final long JOB_ID = 5L;
+    private static final long USER_ID = 9L;
+    private static final long WITHDRAWN_ID = 40L;
+
+    private ApplicationRepository applicationRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ApplicationServiceImpl applicationService;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ApplicationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        JobRepository jobRepository = mock(JobRepository.class);
+        AppliedJobsIndex appliedJobsIndex = mock(AppliedJobsIndex.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        User user = new User();
+        user.setId(USER_ID);
+        Job job = new Job();
+        job.setId(JOB_ID);
+        job.setTitle("Backend Engineer");
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(applicationRepository.findWithdrawnId(JOB_ID, USER_ID)).thenReturn(Optional.of(WITHDRAWN_ID));
+        when(applicationRepository.reopenWithdrawn(eq(WITHDRAWN_ID), any(), any(), any(), any(), any(), any(), any(),
+                any())).thenReturn(1);
+
+        applicationService = new ApplicationServiceImpl(applicationRepository, userRepository, jobRepository,
+                mock(OrganizationDirectory.class), mock(AuditLogService.class), eventPublisher,
+                mock(EntityLoaders.class), mock(AuthorizationUtil.class), mock(ApplicationStatusUpdater.class),
+                appliedJobsIndex);
+    }
+
+    @Test
+    void reapplyWithoutLinksReopensWithEmptyLinks() {
+        applicationService.createApplication(JOB_ID, USER_ID,
+                new ApplyJobRequest("/resumes/abc", "Still interested", null, " ", null, null));
+
+        verify(applicationRepository).reopenWithdrawn(eq(WITHDRAWN_ID), eq(ApplicationStatus.APPLIED),
+                eq("/resumes/abc"), eq("Still interested"), isNull(), isNull(), isNull(), isNull(),
+                any(LocalDateTime.class));
+        verify(applicationRepository, never()).save(any(Application.class));
+    }
+
+    @Test
+    void reapplyWithLinksCopiesThem() {
+        applicationService.createApplication(JOB_ID, USER_ID,
+                new ApplyJobRequest(null, null, "https://example.com", null, "https://github.com/me", "notes"));
+
+        verify(applicationRepository).reopenWithdrawn(eq(WITHDRAWN_ID), eq(ApplicationStatus.APPLIED), isNull(),
+                isNull(), eq("https://example.com"), isNull(), eq("https://github.com/me"), eq("notes"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void reapplyPublishesASubmission() {
+        applicationService.createApplication(JOB_ID, USER_ID,
+                new ApplyJobRequest(null, null, null, null, null, null));
+
+        ArgumentCaptor<ApplicationChangedEvent> event = ArgumentCaptor.forClass(ApplicationChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(new ApplicationChangedEvent(WITHDRAWN_ID, JOB_ID, USER_ID,
+                ApplicationChangedEvent.ChangeType.SUBMITTED, ApplicationStatus.APPLIED), event.getValue());
+    }
+}
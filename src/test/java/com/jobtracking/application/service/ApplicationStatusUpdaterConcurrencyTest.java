@@ -0,0 +1,213 @@
+package com.jobtracking.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.common.exception.ConcurrentUpdateException;
+import com.jobtracking.common.exception.InvalidStatusTransitionException;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.profile.entity.RecruiterProfile;
+import com.jobtracking.support.MySqlJpaTest;
+
+/**
+ * Concurrent status updates against MySQL through Hibernate's {@code @Version} check
+ * Threads race on the same applications, each attempt in its own committed transaction. Every committed
+ * change must show up exactly once in the stored version - no lost or doubled updates - no transition
+ * may take more than {@link ApplicationStatusUpdater#MAX_ATTEMPTS} attempts, and since no row lock is
+ * held between read and write every thread must finish well within the timeout.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationStatusUpdaterConcurrencyTest extends MySqlJpaTest {
+
+    private static final int THREADS = 8;
+    private static final long TIMEOUT_SECONDS = 60;
+    private static final AtomicInteger FIXTURES = new AtomicInteger();
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ApplicationStatusUpdater updater;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        updater = new ApplicationStatusUpdater(applicationRepository, transactionTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void racingWorkflowsLoseNoUpdate() throws Exception {
+        List<ApplicationStatus> workflow = List.of(ApplicationStatus.UNDER_REVIEW, ApplicationStatus.SHORTLISTED,
+                ApplicationStatus.INTERVIEWED, ApplicationStatus.HIRED);
+        List<Long> ids = applications(4, ApplicationStatus.APPLIED);
+        Map<Long, Long> initialVersions = versions(ids);
+        Map<Long, AtomicInteger> committed = new ConcurrentHashMap<>();
+        AtomicInteger maxAttempts = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+
+        // Every thread drives every application through the same workflow at the same time
+        runConcurrently(() -> {
+            for (Long id : ids) {
+                ApplicationStatus expected = ApplicationStatus.APPLIED;
+                for (ApplicationStatus target : workflow) {
+                    ApplicationStatus from = expected;
+                    expected = target;
+                    while (true) {
+                        try {
+                            ApplicationStatusUpdater.Transition transition = updater.transition(id, from, target,
+                                    changed -> committed.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet());
+                            maxAttempts.accumulateAndGet(transition.attempts(), Math::max);
+                            break;
+                        } catch (ConcurrentUpdateException e) {
+                            exhausted.incrementAndGet(); // Gave up after MAX_ATTEMPTS - surfaced, try again
+                        } catch (InvalidStatusTransitionException e) {
+                            break; // Another thread already moved past this step
+                        }
+                    }
+                }
+            }
+        });
+
+        for (Long id : ids) {
+            Application application = transactionTemplate.execute(status -> applicationRepository.findById(id).orElseThrow());
+            assertEquals(ApplicationStatus.HIRED, application.getStatus());
+            assertEquals(initialVersions.get(id) + workflow.size(), application.getVersion(),
+                    "every step committed exactly once");
+            assertEquals(workflow.size(), committed.get(id).get(), "every committed change was reported once");
+        }
+        assertTrue(maxAttempts.get() <= ApplicationStatusUpdater.MAX_ATTEMPTS,
+                "a transition took " + maxAttempts.get() + " attempts");
+    }
+
+    @Test
+    void conflictingConditionalTransitionsHaveExactlyOneWinner() throws Exception {
+        Long id = applications(1, ApplicationStatus.UNDER_REVIEW).get(0);
+        long initialVersion = versions(List.of(id)).get(id);
+        AtomicInteger changes = new AtomicInteger();
+        AtomicInteger thread = new AtomicInteger();
+
+        // Half the recruiters shortlist, the other half reject - both only from UNDER_REVIEW
+        runConcurrently(() -> {
+            ApplicationStatus target = thread.getAndIncrement() % 2 == 0
+                    ? ApplicationStatus.SHORTLISTED
+                    : ApplicationStatus.REJECTED;
+            try {
+                updater.transition(id, ApplicationStatus.UNDER_REVIEW, target, changed -> changes.incrementAndGet());
+            } catch (InvalidStatusTransitionException | ConcurrentUpdateException e) {
+                // Lost the race
+            }
+        });
+
+        Application application = transactionTemplate.execute(status -> applicationRepository.findById(id).orElseThrow());
+        assertEquals(1, changes.get(), "exactly one transition commits");
+        assertEquals(initialVersion + 1, application.getVersion());
+        assertTrue(application.getStatus() == ApplicationStatus.SHORTLISTED
+                || application.getStatus() == ApplicationStatus.REJECTED);
+    }
+
+    /**
+     * Run the task on all threads at once and require every thread to finish within the timeout
+     */
+    private void runConcurrently(Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Committed applications in the given status to one job, each from its own seeker
+     */
+    private List<Long> applications(int count, ApplicationStatus status) {
+        int fixture = FIXTURES.incrementAndGet();
+        return transactionTemplate.execute(tx -> {
+            User recruiter = user("recruiter-" + fixture, 2);
+            Organization company = new Organization();
+            company.setName("Acme " + fixture);
+            company.setVerified(true);
+            company.setRecruiterUserId(recruiter.getId());
+            entityManager.persist(company);
+            RecruiterProfile profile = new RecruiterProfile();
+            profile.setUser(recruiter);
+            profile.setCompany(company);
+            entityManager.persist(profile);
+            Job job = new Job();
+            job.setTitle("Backend Engineer");
+            job.setCompany(company);
+            job.setRecruiter(profile);
+            entityManager.persist(job);
+
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Application application = new Application();
+                application.setJob(job);
+                application.setUser(user("seeker-" + fixture + "-" + i, 3));
+                application.setStatus(status);
+                ids.add(entityManager.persistAndGetId(application, Long.class));
+            }
+            return ids;
+        });
+    }
+
+    private User user(String username, int roleId) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPasswordHash("hash");
+        user.setRoleId(roleId);
+        return entityManager.persist(user);
+    }
+
+    private Map<Long, Long> versions(List<Long> ids) {
+        Map<Long, Long> versions = new ConcurrentHashMap<>();
+        transactionTemplate.executeWithoutResult(status -> ids.forEach(id ->
+                versions.put(id, applicationRepository.findById(id).orElseThrow().getVersion())));
+        return versions;
+    }
+}
@@ -0,0 +1,211 @@
+package com.jobtracking.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.jobtracking.application.entity.Application;
+import com.jobtracking.application.enums.ApplicationStatus;
+import com.jobtracking.application.repository.ApplicationRepository;
+import com.jobtracking.common.exception.ConcurrentUpdateException;
+import com.jobtracking.common.exception.InvalidStatusTransitionException;
+
+/**
+ * Unit test of the optimistic retry loop in {@link ApplicationStatusUpdater}
+ * The repository is a compare-and-set fake that rejects a write whose version is stale, the way
+ * Hibernate's {@code @Version} check does; neither Hibernate nor the database is involved, so this
+ * covers how the updater reacts to conflicts - re-read, re-check the expected status, give up after
+ * the retry limit - not the locking behaviour of the real store.
+ */
+class ApplicationStatusUpdaterRetryTest {
+
+    private static final int THREADS = 16;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final Map<Long, AtomicReference<Row>> store = new ConcurrentHashMap<>();
+    private final AtomicInteger conflicts = new AtomicInteger();
+    private ApplicationStatusUpdater updater;
+    private ExecutorService executor;
+
+    /**
+     * Immutable committed state of one application
+     */
+    private record Row(ApplicationStatus status, long version) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        ApplicationRepository repository = mock(ApplicationRepository.class);
+        when(repository.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            AtomicReference<Row> ref = store.get(id);
+            if (ref == null) {
+                return Optional.empty();
+            }
+            Row row = ref.get();
+            // Widen the window between read and write so attempts really interleave
+            Thread.yield();
+            return Optional.of(application(id, row));
+        });
+        when(repository.saveAndFlush(any(Application.class))).thenAnswer(invocation -> {
+            Application application = invocation.getArgument(0);
+            AtomicReference<Row> ref = store.get(application.getId());
+            Row current = ref.get();
+            Row next = new Row(application.getStatus(), current.version() + 1);
+            if (current.version() != application.getVersion() || !ref.compareAndSet(current, next)) {
+                conflicts.incrementAndGet();
+                throw new ObjectOptimisticLockingFailureException(Application.class, application.getId());
+            }
+            return application(application.getId(), next);
+        });
+        updater = new ApplicationStatusUpdater(repository, TransactionOperations.withoutTransaction());
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void conflictingWorkflowsRetryUntilEveryStepIsApplied() throws Exception {
+        List<ApplicationStatus> workflow = List.of(ApplicationStatus.UNDER_REVIEW, ApplicationStatus.SHORTLISTED,
+                ApplicationStatus.INTERVIEWED, ApplicationStatus.HIRED);
+        long applications = 8;
+        for (long id = 1; id <= applications; id++) {
+            store.put(id, new AtomicReference<>(new Row(ApplicationStatus.APPLIED, 0)));
+        }
+        Map<Long, AtomicInteger> committed = new ConcurrentHashMap<>();
+
+        // Every thread drives every application through the same workflow at the same time
+        runConcurrently(() -> {
+            for (long id = 1; id <= applications; id++) {
+                ApplicationStatus expected = ApplicationStatus.APPLIED;
+                for (ApplicationStatus target : workflow) {
+                    long applicationId = id;
+                    ApplicationStatus from = expected;
+                    expected = target;
+                    while (true) {
+                        try {
+                            updater.transition(applicationId, from, target, changed ->
+                                    committed.computeIfAbsent(applicationId, k -> new AtomicInteger()).incrementAndGet());
+                            break;
+                        } catch (ConcurrentUpdateException e) {
+                            // Retries exhausted under extreme contention - surfaced, never silent; try again
+                        } catch (InvalidStatusTransitionException e) {
+                            // Another thread already moved past this step
+                            break;
+                        }
+                    }
+                }
+            }
+        });
+
+        for (long id = 1; id <= applications; id++) {
+            Row row = store.get(id).get();
+            assertEquals(ApplicationStatus.HIRED, row.status());
+            assertEquals(workflow.size(), row.version(), "every step committed exactly once");
+            assertEquals(workflow.size(), committed.get(id).get(), "every committed change was reported once");
+        }
+        assertTrue(conflicts.get() > 0, "the test must actually produce write conflicts");
+    }
+
+    @Test
+    void conditionalTransitionIsRecheckedAfterAConflict() throws Exception {
+        store.put(1L, new AtomicReference<>(new Row(ApplicationStatus.UNDER_REVIEW, 0)));
+        AtomicInteger changes = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger thread = new AtomicInteger();
+
+        // Half the recruiters shortlist, the other half reject - both only from UNDER_REVIEW
+        runConcurrently(() -> {
+            ApplicationStatus target = thread.getAndIncrement() % 2 == 0
+                    ? ApplicationStatus.SHORTLISTED
+                    : ApplicationStatus.REJECTED;
+            try {
+                updater.transition(1L, ApplicationStatus.UNDER_REVIEW, target, changed -> changes.incrementAndGet());
+            } catch (InvalidStatusTransitionException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        Row row = store.get(1L).get();
+        assertEquals(1, changes.get(), "exactly one transition commits");
+        assertEquals(1, row.version());
+        assertTrue(row.status() == ApplicationStatus.SHORTLISTED || row.status() == ApplicationStatus.REJECTED);
+        assertTrue(rejected.get() > 0, "the losing side is told about the conflict");
+    }
+
+    @Test
+    void invalidTransitionIsRejectedWithoutWriting() {
+        store.put(1L, new AtomicReference<>(new Row(ApplicationStatus.HIRED, 3)));
+
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> updater.transition(1L, null, ApplicationStatus.REJECTED, changed -> { }));
+        assertEquals(new Row(ApplicationStatus.HIRED, 3), store.get(1L).get());
+    }
+
+    @Test
+    void retriesAreBounded() {
+        ApplicationRepository repository = mock(ApplicationRepository.class);
+        when(repository.findById(1L)).thenAnswer(invocation -> Optional.of(
+                application(1L, new Row(ApplicationStatus.APPLIED, 0))));
+        when(repository.saveAndFlush(any(Application.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Application.class, 1L));
+        ApplicationStatusUpdater alwaysConflicting =
+                new ApplicationStatusUpdater(repository, TransactionOperations.withoutTransaction());
+
+        assertThrows(ConcurrentUpdateException.class,
+                () -> alwaysConflicting.transition(1L, null, ApplicationStatus.UNDER_REVIEW, changed -> { }));
+    }
+
+    /**
+     * Run the task on all threads at once so their read-modify-write attempts conflict
+     */
+    private void runConcurrently(Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Application application(Long id, Row row) {
+        Application application = new Application();
+        application.setId(id);
+        application.setStatus(row.status());
+        application.setVersion(row.version());
+        return application;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobtracking.common.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    @Test
+    void removedDocumentsStopMatchingAndOthersStillDo() {
+        InvertedIndex index = new InvertedIndex(1f);
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, "java spring " + (id % 2 == 0 ? "kafka" : "docker"));
+        }
+
+        // Remove from the middle and the ends so postings are moved around
+        for (long id = 1; id <= 50; id += 3) {
+            assertTrue(index.remove(id));
+        }
+
+        Set<Long> java = ids(index.search("java", 100));
+        Set<Long> kafka = ids(index.search("kafka", 100));
+        for (long id = 1; id <= 50; id++) {
+            boolean kept = (id - 1) % 3 != 0;
+            assertEquals(kept, java.contains(id), "java " + id);
+            assertEquals(kept && id % 2 == 0, kafka.contains(id), "kafka " + id);
+        }
+        assertEquals(java.size(), index.size());
+    }
+
+    @Test
+    void replacingADocumentDropsItsOldTerms() {
+        InvertedIndex index = new InvertedIndex(1f);
+        index.put(1, "java backend");
+        index.put(2, "java frontend");
+        index.put(1, "python backend");
+
+        assertEquals(Set.of(2L), ids(index.search("java", 10)));
+        assertEquals(Set.of(1L), ids(index.search("python", 10)));
+        assertEquals(Set.of(1L), ids(index.search("backend", 10)));
+    }
+
+    @Test
+    void reusedOrdinalsScoreOnlyTheirNewTerms() {
+        InvertedIndex index = new InvertedIndex(1f);
+        index.put(1, "java");
+        index.put(2, "java");
+        index.remove(1);
+        index.put(3, "rust");
+        index.remove(2);
+        index.put(4, "java rust");
+
+        assertEquals(Set.of(4L), ids(index.search("java", 10)));
+        assertEquals(Set.of(3L, 4L), ids(index.search("rust", 10)));
+        assertFalse(index.contains(1));
+    }
+
+    @Test
+    void documentsMatchingMoreTermsRankFirst() {
+        InvertedIndex index = new InvertedIndex(1f);
+        index.put(1, "java");
+        index.put(2, "java spring boot");
+        index.put(3, "boot");
+
+        List<InvertedIndex.Hit> hits = index.search("java spring boot", 2);
+
+        assertEquals(2, hits.size());
+        assertEquals(2L, hits.get(0).docId());
+    }
+
+    private static Set<Long> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::docId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobtracking.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Per-request overhead of {@link JwtAuthenticationFilter}
+ * {@code cachedToken} is the steady state of a client reusing its token; {@code uncachedToken} runs
+ * with a zero-size principal cache, so every request verifies the signature and parses the claims.
+ * Run with {@code java -cp <test classpath> com.jobtracking.config.JwtAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1));
+        cachingFilter = new JwtAuthenticationFilter(new JwtVerifier(jwtUtil, new SimpleMeterRegistry(), 10_000));
+        uncachedFilter = new JwtAuthenticationFilter(new JwtVerifier(jwtUtil, new SimpleMeterRegistry(), 0));
+
+        request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(42L, 3));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void cachedToken(Blackhole blackhole) throws Exception {
+        run(cachingFilter, blackhole);
+    }
+
+    @Benchmark
+    public void uncachedToken(Blackhole blackhole) throws Exception {
+        run(uncachedFilter, blackhole);
+    }
+
+    private void run(JwtAuthenticationFilter filter, Blackhole blackhole) throws Exception {
+        // doFilterInternal directly - doFilter would mark the reused request as already filtered
+        filter.doFilterInternal(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobtracking.job.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.jobtracking.common.response.ApiResponse;
+import com.jobtracking.job.dto.JobWithSkillsResponse;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.service.JobService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The pre-rendered listing must be byte for byte the body the MVC converter writes for the same ApiResponse
+ */
+class JobJsonFragmentCacheTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private JobRepository jobRepository;
+    private JobService jobService;
+    private JobJsonFragmentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        jobService = mock(JobService.class);
+        cache = new JobJsonFragmentCache(jsonMapper, jobRepository, jobService);
+    }
+
+    @Test
+    void listingMatchesTheConverterOutputForJobsWithNullFields() throws Exception {
+        JobWithSkillsResponse complete = job(2L, "Backend Engineer");
+        complete.setMinSalary(50000.0);
+        complete.setPostedAt(LocalDateTime.of(2026, 3, 1, 9, 30));
+        complete.setSkills(List.of(new JobWithSkillsResponse.SkillInfo(1L, "Java")));
+        JobWithSkillsResponse sparse = job(1L, "Intern"); // salary, dates, skills and company left null
+        List<JobWithSkillsResponse> jobs = List.of(complete, sparse);
+        when(jobRepository.findListingIds()).thenReturn(List.of(2L, 1L));
+        when(jobService.getJobsWithSkillsByIds(List.of(2L, 1L))).thenReturn(jobs);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.writeListing(response);
+
+        byte[] expected = jsonMapper.writeValueAsBytes(
+                new ApiResponse<>(true, JobJsonFragmentCache.LISTING_MESSAGE, jobs));
+        assertArrayEquals(expected, response.getContentAsByteArray());
+        assertEquals(expected.length, response.getContentLengthLong());
+        assertTrue(response.getContentAsString().contains("\"minSalary\":null"), "nulls are written like the converter does");
+    }
+
+    @Test
+    void emptyListingMatchesTheConverterOutput() throws Exception {
+        when(jobRepository.findListingIds()).thenReturn(List.of());
+        when(jobService.getJobsWithSkillsByIds(List.of())).thenReturn(List.of());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.writeListing(response);
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(
+                        new ApiResponse<>(true, JobJsonFragmentCache.LISTING_MESSAGE, List.of())),
+                response.getContentAsByteArray());
+    }
+
+    private static JobWithSkillsResponse job(Long id, String title) {
+        JobWithSkillsResponse job = new JobWithSkillsResponse();
+        job.setId(id);
+        job.setTitle(title);
+        return job;
+    }
+}
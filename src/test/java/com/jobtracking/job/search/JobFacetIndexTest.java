@@ -0,0 +1,56 @@
+package com.jobtracking.job.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobtracking.job.dto.JobFacetQuery;
+import com.jobtracking.job.entity.Job;
+
+class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex();
+        index.upsert(job(1L, null, 2));
+        index.upsert(job(2L, 1, 3));
+        index.upsert(job(3L, 5, null));
+        index.upsert(job(4L, null, null));
+    }
+
+    @Test
+    void missingMinimumExperienceCountsAsZero() {
+        assertEquals(List.of(4L, 2L, 1L), index.filter(experience(null, 3), 0, 10).jobIds());
+        assertEquals(List.of(4L, 1L), index.filter(experience(null, 0), 0, 10).jobIds());
+    }
+
+    @Test
+    void missingMaximumExperienceMeansNoUpperBound() {
+        assertEquals(List.of(4L, 3L), index.filter(experience(6, null), 0, 10).jobIds());
+    }
+
+    @Test
+    void experienceRangesMustOverlap() {
+        JobFacetIndex.FacetResult result = index.filter(experience(3, 4), 0, 10);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(4L, 2L), result.jobIds());
+    }
+
+    private static JobFacetQuery experience(Integer min, Integer max) {
+        return new JobFacetQuery(null, null, min, max, null, null, null, null, false);
+    }
+
+    private static Job job(long id, Integer minExperience, Integer maxExperience) {
+        Job job = new Job();
+        job.setId(id);
+        job.setMinExperience(minExperience);
+        job.setMaxExperience(maxExperience);
+        return job;
+    }
+}
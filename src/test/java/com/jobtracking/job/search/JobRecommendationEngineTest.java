@@ -0,0 +1,77 @@
+package com.jobtracking.job.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.enums.Proficiency;
+
+class JobRecommendationEngineTest {
+
+    private static final long JAVA = 1L;
+    private static final long SQL = 2L;
+    private static final long DOCKER = 3L;
+
+    @Test
+    void matchesCountOverlapPerJob() {
+        JobRecommendationEngine engine = new JobRecommendationEngine();
+        engine.upsert(job(10L, JAVA, SQL));
+        engine.upsert(job(11L, JAVA));
+        engine.upsert(job(12L, DOCKER));
+
+        List<JobRecommendationEngine.Match> matches = engine.recommend(
+                Map.of(JAVA, Proficiency.EXPERT, SQL, Proficiency.EXPERT), null, 10);
+
+        Map<Long, JobRecommendationEngine.Match> byJob = matches.stream()
+                .collect(Collectors.toMap(JobRecommendationEngine.Match::jobId, match -> match));
+        assertEquals(Set.of(10L, 11L), byJob.keySet());
+        assertEquals(2, byJob.get(10L).matchedSkills());
+        assertEquals(1, byJob.get(11L).matchedSkills());
+    }
+
+    @Test
+    void repeatedCallsDoNotCarryScoresOver() {
+        JobRecommendationEngine engine = new JobRecommendationEngine();
+        for (long id = 1; id <= 200; id++) {
+            engine.upsert(job(id, JAVA, id % 2 == 0 ? SQL : DOCKER));
+        }
+
+        List<JobRecommendationEngine.Match> first = engine.recommend(Map.of(JAVA, Proficiency.ADVANCED), 3, 5);
+        List<JobRecommendationEngine.Match> second = engine.recommend(Map.of(JAVA, Proficiency.ADVANCED), 3, 5);
+
+        assertEquals(first, second);
+        assertTrue(first.stream().allMatch(match -> match.matchedSkills() == 1));
+    }
+
+    @Test
+    void removedJobsAreNotRecommended() {
+        JobRecommendationEngine engine = new JobRecommendationEngine();
+        engine.upsert(job(10L, JAVA));
+        engine.upsert(job(11L, JAVA));
+        engine.remove(10L);
+
+        List<JobRecommendationEngine.Match> matches = engine.recommend(Map.of(JAVA, Proficiency.BEGINNER), null, 10);
+
+        assertEquals(List.of(11L), matches.stream().map(JobRecommendationEngine.Match::jobId).toList());
+    }
+
+    private static Job job(long id, long... skillIds) {
+        Job job = new Job();
+        job.setId(id);
+        job.setSkills(Arrays.stream(skillIds).mapToObj(skillId -> {
+            Skill skill = new Skill("skill-" + skillId);
+            skill.setId(skillId);
+            return skill;
+        }).toList());
+        return job;
+    }
+}
@@ -0,0 +1,175 @@
+package com.jobtracking.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.common.service.EntityLoaders;
+import com.jobtracking.job.cache.JobResponseCache;
+import com.jobtracking.job.dto.JobWithSkillsResponse;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.mapper.JobMapper;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.search.JobRecommendationEngine;
+import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.organization.service.OrganizationDirectory;
+import com.jobtracking.profile.entity.RecruiterProfile;
+import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+import com.jobtracking.profile.repository.RecruiterProfileRepository;
+import com.jobtracking.profile.repository.SkillRepository;
+import com.jobtracking.profile.service.SkillDictionary;
+import com.jobtracking.support.MySqlJpaTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement budget of the recruiter job write path, counted by Hibernate on a real MySQL
+ * Every JDBC statement Hibernate prepares is counted, including the job_skills join rows and the
+ * version-checked UPDATE issued at flush; a JDBC batch counts once.
+ */
+class JobServiceImplStatementCountTest extends MySqlJpaTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private RecruiterProfileRepository recruiterProfileRepository;
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    private JobServiceImpl jobService;
+    private Statistics statistics;
+    private Long recruiterUserId;
+    private Skill java;
+    private Skill sql;
+    private Skill docker;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = new User();
+        user.setUsername("recruiter");
+        user.setEmail("recruiter@example.com");
+        user.setPasswordHash("hash");
+        user.setRoleId(2);
+        entityManager.persist(user);
+        Organization company = new Organization();
+        company.setName("Acme");
+        company.setVerified(true);
+        company.setRecruiterUserId(user.getId());
+        entityManager.persist(company);
+        RecruiterProfile profile = new RecruiterProfile();
+        profile.setUser(user);
+        profile.setCompany(company);
+        entityManager.persist(profile);
+        java = entityManager.persist(new Skill("Java"));
+        sql = entityManager.persist(new Skill("SQL"));
+        docker = entityManager.persist(new Skill("Docker"));
+        recruiterUserId = user.getId();
+
+        SkillDictionary skillDictionary = new SkillDictionary(skillRepository);
+        skillDictionary.loadAll();
+        jobService = new JobServiceImpl(jobRepository, skillRepository, mock(OrganizationDirectory.class),
+                mock(AuditLogService.class), new JobMapper(mock(EntityLoaders.class)),
+                mock(ApplicationEventPublisher.class), mock(JobResponseCache.class), jobSeekerProfileRepository,
+                mock(JobRecommendationEngine.class), recruiterProfileRepository, skillDictionary);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void createJobRunsAtMostThreeStatements() {
+        Long[] jobId = new Long[1];
+        long statements = count(() -> jobId[0] = jobService.createJobForRecruiter(recruiterUserId,
+                newJob("Backend Engineer"), List.of(java.getId(), sql.getId())).getId());
+
+        assertTrue(statements <= 3, "create ran " + statements + " statements");
+        assertEquals(2, skillRows(jobId[0]));
+    }
+
+    @Test
+    void updateOfFieldsRunsAtMostThreeStatements() {
+        Long jobId = existingJob(java);
+
+        long statements = count(() -> jobService.updateJobForRecruiter(recruiterUserId, jobId,
+                newJob("Senior Backend Engineer"), List.of(java.getId())));
+
+        assertTrue(statements <= 3, "update ran " + statements + " statements");
+    }
+
+    @Test
+    void updateOfSkillsOnlyRunsAtMostThreeStatements() {
+        Long jobId = existingJob(java);
+
+        long statements = count(() -> jobService.updateJobForRecruiter(recruiterUserId, jobId,
+                newJob("Backend Engineer"), List.of(java.getId(), docker.getId())));
+
+        assertTrue(statements <= 3, "update ran " + statements + " statements");
+        assertEquals(2, skillRows(jobId));
+    }
+
+    @Test
+    void repeatedSkillIdsAreStoredOnce() {
+        JobWithSkillsResponse response = jobService.createJobForRecruiter(recruiterUserId, newJob("Backend Engineer"),
+                List.of(java.getId(), java.getId()));
+        entityManager.flush();
+
+        assertEquals(1, skillRows(response.getId()));
+    }
+
+    /**
+     * Statements Hibernate prepared for the action, including what it writes when flushing afterwards
+     */
+    private long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    private Long existingJob(Skill... skills) {
+        JobWithSkillsResponse created = jobService.createJobForRecruiter(recruiterUserId, newJob("Backend Engineer"),
+                Arrays.stream(skills).map(Skill::getId).toList());
+        entityManager.flush();
+        entityManager.clear();
+        return created.getId();
+    }
+
+    private long skillRows(Long jobId) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM job_skills WHERE job_id = ?1")
+                .setParameter(1, jobId)
+                .getSingleResult()).longValue();
+    }
+
+    private static Job newJob(String title) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setLocation("Pune");
+        job.setJobType("FULL_TIME");
+        return job;
+    }
+}
@@ -0,0 +1,203 @@
+package com.jobtracking.job.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.jobtracking.audit.service.AuditLogService;
+import com.jobtracking.auth.entity.User;
+import com.jobtracking.common.exception.AuthorizationException;
+import com.jobtracking.common.service.EntityLoaders;
+import com.jobtracking.job.cache.JobResponseCache;
+import com.jobtracking.job.dto.JobWithSkillsResponse;
+import com.jobtracking.job.entity.Job;
+import com.jobtracking.job.mapper.JobMapper;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.search.JobRecommendationEngine;
+import com.jobtracking.organization.entity.Organization;
+import com.jobtracking.organization.service.OrganizationDirectory;
+import com.jobtracking.profile.entity.RecruiterProfile;
+import com.jobtracking.profile.entity.Skill;
+import com.jobtracking.profile.repository.JobSeekerProfileRepository;
+import com.jobtracking.profile.repository.RecruiterProfileRepository;
+import com.jobtracking.profile.repository.SkillRepository;
+import com.jobtracking.profile.service.SkillDictionary;
+
+/**
+ * Repository round trips of the recruiter job write path
+ * Repositories are mocked, so this checks which lookups and saves the service makes - skills come
+ * from the dictionary, not per-request queries - not the SQL Hibernate issues at flush.
+ */
+class JobServiceImplWritePathTest {
+
+    private static final long RECRUITER_USER_ID = 7L;
+    private static final String ORIGINAL_TITLE = "Backend Engineer";
+
+    private JobRepository jobRepository;
+    private SkillRepository skillRepository;
+    private RecruiterProfileRepository recruiterProfileRepository;
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+    private OrganizationDirectory organizationDirectory;
+    private AuditLogService auditLogService;
+    private JobServiceImpl jobService;
+
+    private Organization company;
+    private RecruiterProfile recruiterProfile;
+    private List<Skill> originalSkills;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        skillRepository = mock(SkillRepository.class);
+        recruiterProfileRepository = mock(RecruiterProfileRepository.class);
+        jobSeekerProfileRepository = mock(JobSeekerProfileRepository.class);
+        organizationDirectory = mock(OrganizationDirectory.class);
+        auditLogService = mock(AuditLogService.class);
+
+        when(skillRepository.findAll()).thenReturn(List.of(skill(1L, "Java"), skill(2L, "SQL"), skill(3L, "Docker")));
+        SkillDictionary skillDictionary = new SkillDictionary(skillRepository);
+        skillDictionary.loadAll();
+        clearInvocations(skillRepository);
+
+        jobService = new JobServiceImpl(jobRepository, skillRepository, organizationDirectory, auditLogService,
+                new JobMapper(mock(EntityLoaders.class)), mock(ApplicationEventPublisher.class), mock(JobResponseCache.class),
+                jobSeekerProfileRepository, mock(JobRecommendationEngine.class), recruiterProfileRepository,
+                skillDictionary);
+
+        User user = new User();
+        user.setId(RECRUITER_USER_ID);
+        company = new Organization();
+        company.setId(3L);
+        company.setName("Acme");
+        company.setVerified(true);
+        company.setRecruiterUserId(RECRUITER_USER_ID);
+        recruiterProfile = new RecruiterProfile();
+        recruiterProfile.setId(11L);
+        recruiterProfile.setUser(user);
+        recruiterProfile.setCompany(company);
+    }
+
+    @Test
+    void createJobLoadsTheRecruiterAndSavesOnce() {
+        when(recruiterProfileRepository.findWithCompanyByUserId(RECRUITER_USER_ID))
+                .thenReturn(Optional.of(recruiterProfile));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            job.setId(100L);
+            return job;
+        });
+
+        JobWithSkillsResponse response = jobService.createJobForRecruiter(RECRUITER_USER_ID, newJob("Backend Engineer"),
+                List.of(1L, 2L));
+
+        assertEquals(100L, response.getId());
+        assertEquals("Acme", response.getCompanyName());
+        assertEquals(List.of("Java", "SQL"), response.getSkills().stream().map(JobWithSkillsResponse.SkillInfo::getName).toList());
+        assertEquals(List.of("findWithCompanyByUserId", "save"), repositoryCalls());
+        verify(auditLogService, never()).log(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateJobLoadsTheJobAndSavesOnce() {
+        Job existing = existingJob(List.of(skill(1L, "Java")));
+        when(jobRepository.findForUpdateById(100L)).thenReturn(Optional.of(existing));
+        when(jobRepository.saveAndFlush(existing)).thenReturn(existing);
+
+        JobWithSkillsResponse response = jobService.updateJobForRecruiter(RECRUITER_USER_ID, 100L,
+                newJob("Senior Backend Engineer"), List.of(1L));
+
+        assertEquals("Senior Backend Engineer", response.getTitle());
+        assertEquals("Acme", response.getCompanyName());
+        assertEquals(List.of("findForUpdateById", "saveAndFlush"), repositoryCalls());
+        assertSame(originalSkills, existing.getSkills(), "unchanged skills must not be replaced");
+        verify(auditLogService, never()).log(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateOfSkillsOnlyReplacesTheSkillsWithoutLookups() {
+        Job existing = existingJob(List.of(skill(1L, "Java")));
+        when(jobRepository.findForUpdateById(100L)).thenReturn(Optional.of(existing));
+        when(jobRepository.saveAndFlush(existing)).thenReturn(existing);
+
+        Job unchanged = newJob(existing.getTitle());
+        JobWithSkillsResponse response = jobService.updateJobForRecruiter(RECRUITER_USER_ID, 100L, unchanged,
+                List.of(1L, 3L));
+
+        assertEquals(List.of("Java", "Docker"), response.getSkills().stream().map(JobWithSkillsResponse.SkillInfo::getName).toList());
+        assertEquals(List.of("findForUpdateById", "saveAndFlush"), repositoryCalls());
+        assertNotSame(originalSkills, existing.getSkills());
+    }
+
+    @Test
+    void updateOfAnotherRecruitersJobIsRejectedAfterTheLookup() {
+        Job existing = existingJob(List.of());
+        existing.getRecruiter().getUser().setId(99L);
+        when(jobRepository.findForUpdateById(100L)).thenReturn(Optional.of(existing));
+
+        assertThrows(AuthorizationException.class,
+                () -> jobService.updateJobForRecruiter(RECRUITER_USER_ID, 100L, newJob("Hijacked"), null));
+        assertEquals(List.of("findForUpdateById"), repositoryCalls());
+    }
+
+    /**
+     * Names of the repository methods called, in order
+     */
+    private List<String> repositoryCalls() {
+        List<Invocation> invocations = new ArrayList<>();
+        List<Object> repositories = List.of(jobRepository, skillRepository, recruiterProfileRepository,
+                jobSeekerProfileRepository, organizationDirectory);
+        for (Object repository : repositories) {
+            invocations.addAll(mockingDetails(repository).getInvocations());
+        }
+        invocations.sort(Comparator.comparingInt(Invocation::getSequenceNumber));
+        return invocations.stream().map(invocation -> invocation.getMethod().getName()).toList();
+    }
+
+    private Job existingJob(List<Skill> skills) {
+        User owner = new User();
+        owner.setId(RECRUITER_USER_ID);
+        RecruiterProfile owningProfile = new RecruiterProfile();
+        owningProfile.setUser(owner);
+        owningProfile.setCompany(company);
+
+        Job job = newJob(ORIGINAL_TITLE);
+        job.setId(100L);
+        job.setRecruiter(owningProfile);
+        job.setCompany(company);
+        originalSkills = new ArrayList<>(skills);
+        job.setSkills(originalSkills);
+        return job;
+    }
+
+    private static Job newJob(String title) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setLocation("Pune");
+        job.setJobType("FULL_TIME");
+        return job;
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill(name);
+        skill.setId(id);
+        return skill;
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobtracking.profile.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobtracking.job.event.JobChangedEvent;
+import com.jobtracking.job.repository.JobRepository;
+import com.jobtracking.job.search.JobRecommendationEngine;
+import com.jobtracking.profile.repository.SkillDemandRepository;
+
+/**
+ * Flushes add this node's deltas onto skill_demand rather than overwriting the stored counters
+ */
+class SkillTrendServiceFlushTest {
+
+    private static final long SKILL_ID = 7L;
+
+    private JdbcTemplate jdbcTemplate;
+    private SkillTrendService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        JobRepository jobRepository = mock(JobRepository.class);
+        SkillDemandRepository skillDemandRepository = mock(SkillDemandRepository.class);
+        when(jobRepository.findSkillIdsByJobIdIn(anyList())).thenReturn(List.of(SKILL_ID));
+        when(skillDemandRepository.findAll()).thenReturn(List.of());
+
+        service = new SkillTrendService(skillDemandRepository, jobRepository, mock(JobRecommendationEngine.class),
+                mock(SkillDictionary.class), jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void flushAddsDeltasAndResetsThem() {
+        posting();
+        posting();
+
+        service.flush();
+
+        List<Object[]> rows = flushedRows(1);
+        assertEquals(1, rows.size());
+        assertEquals(SKILL_ID, rows.get(0)[0]);
+        assertEquals(2.0, (double) rows.get(0)[1], 0.001);
+        assertTrue(sql().contains("postings_7d = postings_7d * "));
+
+        // Nothing new since the last flush - nothing is written again
+        service.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedFlushKeepsTheDeltasForTheNextOne() {
+        posting();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[] { 1 });
+
+        service.flush();
+        posting();
+        service.flush();
+
+        List<Object[]> rows = flushedRows(2);
+        assertEquals(2.0, (double) rows.get(0)[1], 0.001);
+    }
+
+    @Test
+    void flushWithoutEventsWritesNothing() {
+        service.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private void posting() {
+        service.onJobChanged(JobChangedEvent.of(1L, JobChangedEvent.ChangeType.CREATED));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> flushedRows(int calls) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(anyString(), rows.capture());
+        return rows.getValue();
+    }
+
+    private String sql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), anyList());
+        return sql.getValue();
+    }
+}